@@ -0,0 +1,17 @@
+package com.gildedrose.http;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Creates an executor that starts a new virtual thread for every request.
+ * Compiled only by the jdk21 profile; looked up reflectively by RequestExecutors.
+ */
+public class VirtualThreadExecutorFactory implements Supplier<ExecutorService> {
+
+    @Override
+    public ExecutorService get() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
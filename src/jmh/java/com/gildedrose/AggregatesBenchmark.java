@@ -0,0 +1,67 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import com.gildedrose.metrics.InventoryAggregates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A daily pass followed by a report: recomputing the totals with a full scan after the plain update,
+ * against reading them from InventoryAggregates maintained by the instrumented update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AggregatesBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private Item[] template;
+    private GildedRose scanned;
+    private GildedRose incremental;
+    private InventoryAggregates aggregates;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        template = InventoryGenerator.generate(size, 42);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        scanned = new GildedRose(InventoryGenerator.copyOf(template));
+        Item[] items = InventoryGenerator.copyOf(template);
+        incremental = new GildedRose(items);
+        aggregates = new InventoryAggregates(items, false);
+        incremental.addUpdateListener(aggregates);
+    }
+
+    @Benchmark
+    public long updateThenScan() {
+        scanned.updateQuality();
+        long total = 0;
+        long atMaximum = 0;
+        long expired = 0;
+        for (Item item : scanned.items) {
+            total += item.quality;
+            atMaximum += item.quality == ItemCategory.MAX_QUALITY ? 1 : 0;
+            expired += item.sellIn < 0 ? 1 : 0;
+        }
+        return total + atMaximum + expired;
+    }
+
+    @Benchmark
+    public long updateWithAggregates() {
+        incremental.updateQuality();
+        return aggregates.totalQuality() + aggregates.maxQualityCount() + aggregates.expiredCount();
+    }
+
+    @Benchmark
+    public long readAggregates() {
+        return aggregates.totalQuality() + aggregates.maxQualityCount() + aggregates.expiredCount();
+    }
+}
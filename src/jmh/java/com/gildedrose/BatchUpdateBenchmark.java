@@ -0,0 +1,49 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-item strategy dispatch in GildedRose.updateQuality() against BatchUpdateEngine,
+ * which updates one category run at a time through ItemUpdateStrategy.updateAll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BatchUpdateBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Item[] template;
+    private GildedRose perItem;
+    private BatchUpdateEngine batch;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        template = InventoryGenerator.generate(size, 42);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        perItem = new GildedRose(InventoryGenerator.copyOf(template));
+        batch = new BatchUpdateEngine(InventoryGenerator.copyOf(template));
+    }
+
+    @Benchmark
+    public GildedRose perItemDispatch() {
+        perItem.updateQuality();
+        return perItem;
+    }
+
+    @Benchmark
+    public BatchUpdateEngine batchDispatch() {
+        batch.updateQuality();
+        return batch;
+    }
+}
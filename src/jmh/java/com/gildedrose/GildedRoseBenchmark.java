@@ -0,0 +1,42 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end GildedRose.updateQuality() over a realistic item mix.
+ * The inventory is restored from a template before every iteration so that
+ * each iteration measures the same mix of live and clamped items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GildedRoseBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Item[] template;
+    private GildedRose app;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        template = InventoryGenerator.generate(size, 42);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        app = new GildedRose(InventoryGenerator.copyOf(template));
+    }
+
+    @Benchmark
+    public GildedRose updateQuality() {
+        app.updateQuality();
+        return app;
+    }
+}
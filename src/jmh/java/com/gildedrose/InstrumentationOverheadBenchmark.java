@@ -0,0 +1,48 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import com.gildedrose.metrics.UpdateMetrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of instrumentation on GildedRose.updateQuality(): no listener registered
+ * (which should match GildedRoseBenchmark) against UpdateMetrics attached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class InstrumentationOverheadBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private Item[] template;
+    private GildedRose app;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        template = InventoryGenerator.generate(size, 42);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        app = new GildedRose(InventoryGenerator.copyOf(template));
+        if (instrumented) {
+            app.addUpdateListener(new UpdateMetrics());
+        }
+    }
+
+    @Benchmark
+    public GildedRose updateQuality() {
+        app.updateQuality();
+        return app;
+    }
+}
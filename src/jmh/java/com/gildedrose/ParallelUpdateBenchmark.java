@@ -0,0 +1,51 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of ParallelUpdateEngine from one thread up to the number of cores.
+ * Override the thread counts to match the machine, e.g. -Djmh.args="ParallelUpdateBenchmark -p threads=1,8,64".
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParallelUpdateBenchmark {
+
+    @Param({"5000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    private Item[] template;
+    private Item[] items;
+    private ParallelUpdateEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        template = InventoryGenerator.generate(size, 42);
+        engine = new ParallelUpdateEngine(threads, 0, ParallelUpdateEngine.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        items = InventoryGenerator.copyOf(template);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public Item[] updateQuality() {
+        engine.updateQuality(items);
+        return items;
+    }
+}
@@ -0,0 +1,52 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import com.gildedrose.rules.RuleBook;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hand-written strategies against strategies compiled from the default rule book,
+ * both dispatched per item through GildedRose.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RuleEngineBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Item[] template;
+    private RuleBook rules;
+    private GildedRose handWritten;
+    private GildedRose compiled;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        template = InventoryGenerator.generate(size, 42);
+        rules = RuleBook.loadDefault();
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        handWritten = new GildedRose(InventoryGenerator.copyOf(template));
+        compiled = new GildedRose(InventoryGenerator.copyOf(template));
+    }
+
+    @Benchmark
+    public GildedRose handWrittenStrategies() {
+        handWritten.updateQuality();
+        return handWritten;
+    }
+
+    @Benchmark
+    public GildedRose compiledRules() {
+        compiled.updateQuality(rules);
+        return compiled;
+    }
+}
@@ -0,0 +1,68 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of StoreSimulation over 200 stores with heavily skewed sizes, advanced 30 days,
+ * with worker threads in one JVM or with the same number of single-threaded worker processes.
+ * Store sizes follow a Pareto distribution, so a handful of stores hold most of the items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class StoreSimulationBenchmark {
+
+    private static final int STORES = 200;
+    private static final int DAYS = 30;
+
+    @Param({"1", "2", "4"})
+    public int workers;
+
+    @Param({"threads", "processes"})
+    public String mode;
+
+    private List<Item[]> template;
+    private List<Item[]> stores;
+    private StoreSimulation simulation;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        Random random = new Random(42);
+        template = new ArrayList<>();
+        for (int store = 0; store < STORES; store++) {
+            int size = (int) Math.min(500 / Math.pow(random.nextDouble(), 1 / 1.2), 400_000);
+            template.add(InventoryGenerator.generate(size, store));
+        }
+        simulation = new StoreSimulation(workers);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        stores = new ArrayList<>(template.size());
+        for (Item[] store : template) {
+            stores.add(InventoryGenerator.copyOf(store));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        simulation.close();
+    }
+
+    @Benchmark
+    public SimulationSummary advanceStores() throws Exception {
+        if (mode.equals("processes")) {
+            return StoreSimulation.runInProcesses(stores, DAYS, workers, 1);
+        }
+        return simulation.run(stores, DAYS);
+    }
+}
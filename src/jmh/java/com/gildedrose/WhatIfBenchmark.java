@@ -0,0 +1,81 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Eight pricing scenarios over a year on 200k items: WhatIfRunner sharing the base inventory,
+ * against copying the inventory for each scenario and updating the copy day by day.
+ * Each scenario overrides the starting quality of 1% of the items and uses its own
+ * conjured degradation rate.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class WhatIfBenchmark {
+
+    private static final int ITEMS = 200_000;
+    private static final int SCENARIOS = 8;
+    private static final int DAYS = 365;
+
+    private Item[] base;
+    private List<Scenario> scenarios;
+    private WhatIfRunner runner;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        base = InventoryGenerator.generate(ITEMS, 42);
+        Random random = new Random(42);
+        scenarios = new ArrayList<>();
+        for (int s = 0; s < SCENARIOS; s++) {
+            Map<Integer, Integer> startingQualities = new HashMap<>();
+            for (int i = 0; i < ITEMS / 100; i++) {
+                startingQualities.put(random.nextInt(ITEMS), random.nextInt(ItemCategory.MAX_QUALITY + 1));
+            }
+            scenarios.add(new Scenario("scenario " + s, DAYS, startingQualities, 1 + s % 4));
+        }
+        runner = new WhatIfRunner(base, Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        runner.close();
+    }
+
+    @Benchmark
+    public long sharedBase() {
+        LongAdder total = new LongAdder();
+        runner.run(scenarios, (scenario, summary) -> total.add(summary.totalQuality(DAYS)));
+        return total.sum();
+    }
+
+    @Benchmark
+    public long copyPerScenario() {
+        long total = 0;
+        for (Scenario scenario : scenarios) {
+            Item[] items = InventoryGenerator.copyOf(base);
+            for (int i = 0; i < scenario.overrideCount(); i++) {
+                items[scenario.overrideIndex(i)].quality = scenario.overrideQuality(i);
+            }
+            SimulationSummary summary = new SimulationSummary(DAYS);
+            GildedRose app = new GildedRose(items);
+            for (int day = 1; day <= DAYS; day++) {
+                app.updateQuality();
+                summary.record(day, items);
+            }
+            total += summary.totalQuality(DAYS);
+        }
+        return total;
+    }
+}
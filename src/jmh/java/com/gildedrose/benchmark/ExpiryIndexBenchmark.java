@@ -0,0 +1,71 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.index.ExpiryIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "What expires next" queries on ExpiryIndex against a scan of every sellIn.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class ExpiryIndexBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    @Param({"1", "5"})
+    public int days;
+
+    private Item[] items;
+    private ExpiryIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = InventoryGenerator.generate(size, 42);
+        index = ExpiryIndex.of(items);
+    }
+
+    @Benchmark
+    public int countIndex() {
+        return index.countWithSellIn(0, days - 1);
+    }
+
+    @Benchmark
+    public int countScan() {
+        int count = 0;
+        for (Item item : items) {
+            if (item.sellIn >= 0 && item.sellIn < days && ItemCategory.of(item.name) != ItemCategory.SULFURAS) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<Item> tripleWindowIndex() {
+        return index.enteringTripleIncreaseWindow(days);
+    }
+
+    @Benchmark
+    public List<Item> tripleWindowScan() {
+        List<Item> matches = new ArrayList<>();
+        int threshold = ItemCategory.TRIPLE_INCREASE_THRESHOLD;
+        for (Item item : items) {
+            if (item.sellIn > threshold && item.sellIn <= threshold + days
+                    && ItemCategory.of(item.name) == ItemCategory.BACKSTAGE_PASS) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,75 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.flow.InventoryEvent;
+import com.gildedrose.flow.InventoryUpdateProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end time to feed 100k items and 10 day ticks through InventoryUpdateProcessor
+ * to a consumer that spends CPU on every item, for several batch sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FlowPipelineBenchmark {
+
+    private static final int ITEMS = 100_000;
+    private static final int TICKS = 10;
+
+    @Param({"1", "64", "1024"})
+    public int batchSize;
+
+    @Param({"0", "50"})
+    public int consumerTokens;
+
+    private Item[] template;
+    private ExecutorService upstream;
+    private ExecutorService downstream;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        template = InventoryGenerator.generate(ITEMS, 42);
+        upstream = Executors.newSingleThreadExecutor();
+        downstream = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        upstream.shutdownNow();
+        downstream.shutdownNow();
+    }
+
+    @Benchmark
+    public long pipeline() throws Exception {
+        SubmissionPublisher<InventoryEvent> feed = new SubmissionPublisher<>(upstream, 1024);
+        InventoryUpdateProcessor processor = new InventoryUpdateProcessor(downstream, 64, batchSize);
+        long[] received = new long[1];
+        CompletableFuture<Void> done = processor.consume((List<Item> batch) -> {
+            received[0] += batch.size();
+            Blackhole.consumeCPU((long) consumerTokens * batch.size());
+        });
+        feed.subscribe(processor);
+
+        for (Item item : InventoryGenerator.copyOf(template)) {
+            feed.submit(InventoryEvent.item(item));
+        }
+        for (int tick = 0; tick < TICKS; tick++) {
+            feed.submit(InventoryEvent.tick());
+        }
+        feed.close();
+        done.get();
+        return received[0];
+    }
+}
@@ -0,0 +1,91 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCatalog;
+import com.gildedrose.columnar.ColumnarInventory;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Heap footprint of an inventory as delivered by a feed, after interning into an ItemCatalog,
+ * and as a ColumnarInventory. Object, field and reference sizes come from JOL for the running JVM,
+ * so the figures follow compressed oops and the object alignment in use. Each distinct String
+ * instance is counted once, with its Latin-1 byte array. The catalog and columnar figures include
+ * the NameDictionary the layout interns its names into.
+ *
+ *     mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.gildedrose.benchmark.FootprintReport \
+ *         -Dbenchmark.jvmArgs=-Xmx4g -Djmh.args=10000000
+ */
+public final class FootprintReport {
+
+    private final Map<Integer, Long> byteArraySizes = new HashMap<>();
+
+    private FootprintReport() {
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        new FootprintReport().run(size);
+    }
+
+    private void run(int size) {
+        VirtualMachine vm = VM.current();
+        System.out.println(vm.details());
+        Item[] items = InventoryGenerator.generate(size, 42);
+        for (Item item : items) {
+            item.name = new String(item.name); // Feeds parse a fresh String for every record
+        }
+
+        long feed = sizeOf(items);
+        report("Item[] from feed", size, feed);
+
+        // The catalog's Items all point at interned names, which are counted with the dictionary
+        ItemCatalog catalog = ItemCatalog.of(items);
+        long catalogSize = size * vm.sizeOf(new Item("", 0, 0))
+                + arraySize(size, vm.sizeOf(new Item[0]), vm.sizeOfField(Object.class.getName()))
+                + arraySize(size, vm.sizeOf(new int[0]), vm.sizeOfField("int"))
+                + arraySize(size, vm.sizeOf(new byte[0]), vm.sizeOfField("byte"))
+                + GraphLayout.parseInstance(catalog.names()).totalSize();
+        report("ItemCatalog", size, catalogSize);
+
+        // Only primitive arrays and the dictionary, so the whole graph can be walked
+        ColumnarInventory columnar = ColumnarInventory.fromItems(catalog.toItems());
+        long columnarSize = GraphLayout.parseInstance(columnar).totalSize();
+        report("ColumnarInventory", columnar.size(), columnarSize);
+
+        System.out.printf("%nCatalog saves %.1f%% against the feed layout%n", 100.0 * (feed - catalogSize) / feed);
+    }
+
+    // Items, the array holding them and every distinct name
+    private long sizeOf(Item[] items) {
+        Map<String, Boolean> seen = new IdentityHashMap<>();
+        long total = VM.current().sizeOf(items);
+        for (Item item : items) {
+            total += VM.current().sizeOf(item);
+            if (seen.put(item.name, Boolean.TRUE) == null) {
+                total += VM.current().sizeOf(item.name) + byteArraySize(item.name.length());
+            }
+        }
+        return total;
+    }
+
+    private long byteArraySize(int length) {
+        return byteArraySizes.computeIfAbsent(length, l -> VM.current().sizeOf(new byte[l]));
+    }
+
+    // Size of an array with the given element count, from the size of an empty one
+    private static long arraySize(long length, long emptySize, long elementBytes) {
+        long alignment = VM.current().objectAlignment();
+        long raw = emptySize + length * elementBytes;
+        return (raw + alignment - 1) / alignment * alignment;
+    }
+
+    private static void report(String layout, int items, long bytes) {
+        System.out.printf("%-20s %,15d bytes  %6.1f bytes/item%n", layout, bytes, (double) bytes / items);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.io.ItemBatch;
+import com.gildedrose.io.ItemRecordParser;
+import com.gildedrose.io.ItemTextFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingesting 1M text records line by line with ItemTextFormat against ItemRecordParser filling a
+ * reused ItemBatch. Run with -prof gc and divide gc.alloc.rate.norm by the record count to get
+ * the allocation per record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class IngestBenchmark {
+
+    private static final int RECORDS = 1_000_000;
+
+    private byte[] text;
+    private ItemRecordParser parser;
+    private ItemBatch batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (Item item : InventoryGenerator.generate(RECORDS, 42)) {
+            builder.append(ItemTextFormat.format(item)).append('\n');
+        }
+        text = builder.toString().getBytes(StandardCharsets.UTF_8);
+        parser = new ItemRecordParser();
+        batch = new ItemBatch(ItemRecordParser.DEFAULT_BATCH_SIZE);
+    }
+
+    @Benchmark
+    public long textFormat() throws IOException {
+        long quality = 0;
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(text), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            quality += ItemTextFormat.parse(line).quality;
+        }
+        return quality;
+    }
+
+    @Benchmark
+    public long pooledParser() {
+        long quality = 0;
+        ByteBuffer in = ByteBuffer.wrap(text);
+        while (in.hasRemaining()) {
+            batch.clear();
+            parser.parse(in, batch);
+            for (int i = 0; i < batch.size(); i++) {
+                quality += batch.item(i).quality;
+            }
+        }
+        return quality;
+    }
+}
@@ -0,0 +1,85 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.index.IndexedInventory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Secondary index lookups on IndexedInventory against linear scans over the same items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class InventoryIndexBenchmark {
+
+    private static final String RARE_NAME = "Sulfuras, Hand of Ragnaros, Shard";
+
+    @Param({"10000000"})
+    public int size;
+
+    private Item[] items;
+    private IndexedInventory inventory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = InventoryGenerator.generate(size, 42);
+        items[size / 2] = new Item(RARE_NAME, 5, 5);
+        inventory = IndexedInventory.of(items);
+    }
+
+    @Benchmark
+    public Set<Item> nameIndex() {
+        return inventory.findByName(RARE_NAME);
+    }
+
+    @Benchmark
+    public int nameScan() {
+        int matches = 0;
+        for (Item item : items) {
+            if (item.name.equals(RARE_NAME)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int prefixCountTrie() {
+        return inventory.countByPrefix(ItemStrategyFactory.CONJURED_PREFIX);
+    }
+
+    @Benchmark
+    public int prefixCountScan() {
+        int matches = 0;
+        for (Item item : items) {
+            if (item.name.startsWith(ItemStrategyFactory.CONJURED_PREFIX)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int categoryBucket() {
+        return inventory.findByCategory(ItemCategory.BACKSTAGE_PASS).size();
+    }
+
+    @Benchmark
+    public int categoryScan() {
+        int matches = 0;
+        for (Item item : items) {
+            if (ItemCategory.of(item.name) == ItemCategory.BACKSTAGE_PASS) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
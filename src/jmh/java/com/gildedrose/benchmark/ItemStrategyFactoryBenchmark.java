@@ -0,0 +1,45 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.strategy.ItemUpdateStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures name-to-strategy resolution: the cached factory lookup against
+ * classifying the name from scratch on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ItemStrategyFactoryBenchmark {
+
+    private static final String[] NAMES = {
+        "+5 Dexterity Vest", "Aged Brie", "Elixir of the Mongoose", "Sulfuras, Hand of Ragnaros",
+        "Backstage passes to a TAFKAL80ETC concert", "Conjured Mana Cake", "Conjured Sword", "Iron Shield"
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void cachedLookup(Blackhole blackhole) {
+        for (String name : NAMES) {
+            ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(name);
+            blackhole.consume(strategy);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public void uncachedClassification(Blackhole blackhole) {
+        for (String name : NAMES) {
+            ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(ItemCategory.of(name));
+            blackhole.consume(strategy);
+        }
+    }
+}
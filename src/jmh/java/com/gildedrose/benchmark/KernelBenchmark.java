@@ -0,0 +1,69 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.columnar.ColumnarInventory;
+import com.gildedrose.columnar.KernelUpdateEngine;
+import com.gildedrose.columnar.QualityKernel;
+import com.gildedrose.columnar.QualityKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object-based per-item updates against the scalar and SIMD column kernels.
+ * The vector case is not run by default. It needs the vector profile, which also passes
+ * --add-modules=jdk.incubator.vector to the JMH runner; forks inherit it from there:
+ *
+ *     mvn -Pbenchmark,vector test-compile exec:exec -Djmh.args="KernelBenchmark -p implementation=objects,scalar,vector"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class KernelBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"objects", "scalar"})
+    public String implementation;
+
+    private Item[] template;
+    private Item[] items;
+    private ColumnarInventory inventory;
+    private KernelUpdateEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        template = InventoryGenerator.generate(size, 42);
+        if (!implementation.equals("objects")) {
+            QualityKernel kernel = implementation.equals("vector") ? QualityKernels.vector() : QualityKernels.scalar();
+            if (kernel == null) {
+                throw new IllegalStateException("Vector kernel not available; build with -Pvector on JDK 17+");
+            }
+            engine = new KernelUpdateEngine(kernel);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        items = InventoryGenerator.copyOf(template);
+        inventory = ColumnarInventory.fromItems(template);
+        inventory.sortByCategory();
+    }
+
+    @Benchmark
+    public Object updateQuality() {
+        if (engine == null) {
+            for (Item item : items) {
+                ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            }
+            return items;
+        }
+        engine.updateQuality(inventory);
+        return inventory;
+    }
+}
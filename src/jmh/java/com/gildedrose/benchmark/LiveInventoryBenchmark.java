@@ -0,0 +1,62 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.live.LiveInventory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of LiveInventory under a mix of lock-free reads, quality writes, insert/remove
+ * churn and daily ticks running at the same time. Read and write scores should stay high
+ * while ticks are in progress.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Group)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LiveInventoryBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private LiveInventory inventory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inventory = LiveInventory.of(InventoryGenerator.generate(size, 42));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public Item read() {
+        return inventory.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public boolean write() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return inventory.adjustQuality(random.nextInt(size), random.nextBoolean() ? 1 : -1);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public boolean churn() {
+        return inventory.remove(inventory.add("Conjured Mana Cake", 5, 10));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public LiveInventory tick() {
+        inventory.updateQuality();
+        return inventory;
+    }
+}
@@ -0,0 +1,65 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.io.InventorySnapshotter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of snapshots to the update thread and of restoring from a snapshot on startup.
+ * snapshotPause measures only the capture done on the caller; the file is written in the background.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SnapshotBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Item[] items;
+    private Path directory;
+    private Path file;
+    private InventorySnapshotter snapshotter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        items = InventoryGenerator.generate(size, 42);
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        file = directory.resolve("inventory.snapshot");
+        snapshotter = new InventorySnapshotter(file);
+        snapshotter.snapshotAsync(items).join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        snapshotter.close();
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> snapshotPause() {
+        return snapshotter.snapshotAsync(items);
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> snapshotWritten() {
+        CompletableFuture<Void> written = snapshotter.snapshotAsync(items);
+        written.join();
+        return written;
+    }
+
+    @Benchmark
+    public Item[] restore() throws IOException {
+        return InventorySnapshotter.restore(file);
+    }
+}
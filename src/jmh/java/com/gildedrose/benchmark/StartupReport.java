@@ -0,0 +1,108 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Startup cost of a batch run that updates an inventory once and exits. Each configuration launches
+ * BatchUpdate from the packaged jar in a fresh JVM and reports the median time from launch until the
+ * update pass has completed, and until the process has exited after writing its output:
+ * - jar: the strategy classes load lazily during the first pass
+ * - preload: the strategy classes are initialized while the inventory is read
+ * - preload + AppCDS: as above, with the class archive built by the appcds profile
+ *
+ *     mvn -Pappcds package -DskipTests
+ *     mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.gildedrose.benchmark.StartupReport \
+ *         -Djmh.args="1000000 5"
+ */
+public final class StartupReport {
+
+    private static final Path JAR = Paths.get("target/gilded-rose-refactoring-1.0-SNAPSHOT.jar");
+    private static final Path ARCHIVE = Paths.get("target/gilded-rose.jsa");
+
+    private StartupReport() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        if (!Files.exists(JAR)) {
+            throw new IllegalStateException(JAR + " not found; run mvn -Pappcds package first");
+        }
+
+        Path dir = Files.createTempDirectory("startup-report");
+        Path input = dir.resolve("inventory.txt");
+        Path output = dir.resolve("updated.txt");
+        writeInventory(InventoryGenerator.generate(size, 42), input);
+
+        System.out.printf("%d items, median of %d runs%n", size, runs);
+        System.out.printf("%-20s %22s %16s%n", "configuration", "time to first update", "total runtime");
+        report("jar", runs, input, output, "-Dgildedrose.preload=false");
+        report("preload", runs, input, output);
+        if (Files.exists(ARCHIVE)) {
+            report("preload + AppCDS", runs, input, output, "-XX:SharedArchiveFile=" + ARCHIVE);
+        } else {
+            System.out.println(ARCHIVE + " not found, skipping AppCDS");
+        }
+
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+        Files.delete(dir);
+    }
+
+    private static void report(String configuration, int runs, Path input, Path output, String... jvmArgs)
+            throws IOException, InterruptedException {
+        long[] firstUpdate = new long[runs];
+        long[] total = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(Arrays.asList(jvmArgs));
+            command.addAll(List.of("-cp", JAR.toString(), "com.gildedrose.BatchUpdate",
+                    input.toString(), output.toString()));
+
+            long launched = System.currentTimeMillis();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String line;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("updated ")) {
+                        firstUpdate[run] = Long.parseLong(line.substring(line.lastIndexOf(' ') + 1)) - launched;
+                    }
+                }
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException(configuration + " run failed with exit code " + process.exitValue());
+            }
+            total[run] = System.currentTimeMillis() - launched;
+        }
+        System.out.printf("%-20s %19d ms %13d ms%n", configuration, median(firstUpdate), median(total));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void writeInventory(Item[] items, Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (Item item : items) {
+                writer.write(item.toString());
+                writer.newLine();
+            }
+        }
+    }
+}
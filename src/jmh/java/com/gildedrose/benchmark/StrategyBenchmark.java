@@ -0,0 +1,85 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+import com.gildedrose.strategy.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-strategy microbenchmarks for ItemUpdateStrategy.updateItem.
+ * Each invocation restores a batch of items to their starting state and updates them once,
+ * so the measured work does not drift towards the clamped quality bounds over time.
+ * Results are reported per item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StrategyBenchmark {
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final Item[] items = new Item[BATCH_SIZE];
+    private final int[] startSellIn = new int[BATCH_SIZE];
+    private final int[] startQuality = new int[BATCH_SIZE];
+
+    private final ItemUpdateStrategy agedBrie = new AgedBrieStrategy();
+    private final ItemUpdateStrategy backstagePass = new BackstagePassStrategy();
+    private final ItemUpdateStrategy conjured = new ConjuredItemStrategy();
+    private final ItemUpdateStrategy normal = new NormalItemStrategy();
+    private final ItemUpdateStrategy sulfuras = new SulfurasStrategy();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            startSellIn[i] = random.nextInt(30) - 5;
+            startQuality[i] = random.nextInt(51);
+            items[i] = new Item("item " + i, startSellIn[i], startQuality[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Item[] agedBrie() {
+        return run(agedBrie);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Item[] backstagePass() {
+        return run(backstagePass);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Item[] conjured() {
+        return run(conjured);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Item[] normal() {
+        return run(normal);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Item[] sulfuras() {
+        return run(sulfuras);
+    }
+
+    private Item[] run(ItemUpdateStrategy strategy) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Item item = items[i];
+            item.sellIn = startSellIn[i];
+            item.quality = startQuality[i];
+            strategy.updateItem(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,124 @@
+package com.gildedrose;
+
+import com.gildedrose.io.ItemTextFormat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Entry point for short-lived batch containers: loads an inventory in the text format,
+ * runs updateQuality() once, writes the result and exits.
+ *
+ * Unless started with -Dgildedrose.preload=false, the strategy classes are initialized on a
+ * separate thread while the inventory is read, so the update pass starts with a warm dispatch table.
+ * Started without an input file it updates a small built-in inventory, which is how the appcds
+ * profile records the classes to archive.
+ *
+ *     java -XX:SharedArchiveFile=target/gilded-rose.jsa -cp target/gilded-rose-refactoring-1.0-SNAPSHOT.jar \
+ *         com.gildedrose.BatchUpdate inventory.txt updated.txt
+ *
+ * Prints "updated <items> items at <epoch millis>" once the pass completes.
+ */
+public final class BatchUpdate {
+
+    public static final String PRELOAD_PROPERTY = "gildedrose.preload";
+
+    private BatchUpdate() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        // The training run round-trips its sample through a temporary file to exercise the same I/O path
+        Path training = args.length == 0 ? Files.createTempFile("gilded-rose-training", ".txt") : null;
+        try {
+            if (training != null) {
+                write(sampleInventory(), training);
+            }
+            Path input = training != null ? training : Paths.get(args[0]);
+            Path output = training != null ? training : args.length > 1 ? Paths.get(args[1]) : null;
+            run(input, output, count -> System.out.println("updated " + count + " items at " + System.currentTimeMillis()));
+        } finally {
+            if (training != null) {
+                Files.deleteIfExists(training);
+            }
+        }
+    }
+
+    /**
+     * Reads the inventory, updates it once and writes it back out.
+     *
+     * @param output Where to write the updated inventory, or null to discard it
+     * @return The number of items updated
+     */
+    static int run(Path input, Path output) throws IOException, InterruptedException {
+        return run(input, output, count -> { });
+    }
+
+    // afterUpdate receives the item count as soon as the pass completes, before the output is written
+    private static int run(Path input, Path output, IntConsumer afterUpdate) throws IOException, InterruptedException {
+        Thread preloader = null;
+        if (Boolean.parseBoolean(System.getProperty(PRELOAD_PROPERTY, "true"))) {
+            preloader = new Thread(ItemStrategyFactory::preload, "strategy-preload");
+            preloader.start();
+        }
+
+        Item[] items = read(input);
+        if (preloader != null) {
+            preloader.join();
+        }
+
+        new GildedRose(items).updateQuality();
+        afterUpdate.accept(items.length);
+
+        if (output != null) {
+            write(items, output);
+        }
+        return items.length;
+    }
+
+    static Item[] read(Path input) throws IOException {
+        List<Item> items = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (ItemTextFormat.isRecord(line)) {
+                    items.add(ItemTextFormat.parse(line));
+                }
+            }
+        }
+        return items.toArray(new Item[0]);
+    }
+
+    static void write(Item[] items, Path output) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write(ItemTextFormat.HEADER);
+            writer.newLine();
+            for (Item item : items) {
+                writer.write(ItemTextFormat.format(item));
+                writer.newLine();
+            }
+        }
+    }
+
+    // One item of every category, on both sides of the sell date
+    private static Item[] sampleInventory() {
+        return new Item[] {
+                new Item("+5 Dexterity Vest", 10, 20),
+                new Item("Elixir of the Mongoose", 0, 7),
+                new Item(ItemStrategyFactory.AGED_BRIE, 2, 0),
+                new Item(ItemStrategyFactory.AGED_BRIE, -1, 10),
+                new Item(ItemStrategyFactory.SULFURAS, 0, 80),
+                new Item(ItemStrategyFactory.BACKSTAGE_PASSES, 15, 20),
+                new Item(ItemStrategyFactory.BACKSTAGE_PASSES, 4, 49),
+                new Item(ItemStrategyFactory.BACKSTAGE_PASSES, 0, 30),
+                new Item("Conjured Mana Cake", 3, 6),
+                new Item("Conjured Mana Cake", -2, 6) };
+    }
+}
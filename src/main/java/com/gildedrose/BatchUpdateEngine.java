@@ -0,0 +1,67 @@
+package com.gildedrose;
+
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+/**
+ * Updates an inventory one strategy at a time instead of one item at a time.
+ * Items are grouped by category once with a counting sort; each daily pass then hands
+ * every group to its strategy's updateAll as a single contiguous run, so the per-item
+ * loop stays monomorphic. Names never change during an update, so the grouping stays
+ * valid until items are added or removed, at which point {@link #regroup()} must be called.
+ * The items array itself is not reordered.
+ */
+public class BatchUpdateEngine {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final Item[] items;
+    private final Item[] grouped;
+    // Start of each category's run in grouped; runStart[c + 1] is its end
+    private final int[] runStart = new int[CATEGORIES.length + 1];
+
+    public BatchUpdateEngine(Item[] items) {
+        this.items = items;
+        this.grouped = new Item[items.length];
+        regroup();
+    }
+
+    /**
+     * Rebuilds the grouping after the contents of the items array changed.
+     */
+    public void regroup() {
+        byte[] categories = new byte[items.length];
+        int[] counts = new int[CATEGORIES.length];
+        for (int i = 0; i < items.length; i++) {
+            categories[i] = ItemCategory.of(items[i].name).code();
+            counts[categories[i]]++;
+        }
+
+        runStart[0] = 0;
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            runStart[c + 1] = runStart[c] + counts[c];
+        }
+
+        int[] next = new int[CATEGORIES.length];
+        System.arraycopy(runStart, 0, next, 0, CATEGORIES.length);
+        for (int i = 0; i < items.length; i++) {
+            grouped[next[categories[i]]++] = items[i];
+        }
+    }
+
+    /**
+     * Updates the quality and sellIn values for all items, one category run at a time.
+     */
+    public void updateQuality() {
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(CATEGORIES[c]);
+            strategy.updateAll(grouped, runStart[c], runStart[c + 1]);
+        }
+    }
+
+    /**
+     * @return The number of items in the given category
+     */
+    public int count(ItemCategory category) {
+        return runStart[category.ordinal() + 1] - runStart[category.ordinal()];
+    }
+}
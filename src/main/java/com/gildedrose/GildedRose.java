@@ -1,13 +1,22 @@
 package com.gildedrose;
 
+import com.gildedrose.io.InventorySnapshotter;
+import com.gildedrose.metrics.UpdateListener;
+import com.gildedrose.rules.RuleBook;
 import com.gildedrose.strategy.ItemUpdateStrategy;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
 //This class has been refactored to use the Strategy pattern for handling different item types.
 //Each item type's business logic is encapsulated in its own strategy class, making the code more maintainable, testable, and extensible.
 
 class GildedRose {
     Item[] items;
 
+    // Empty when instrumentation is disabled, so the plain loop costs a single length check per pass
+    private volatile UpdateListener[] listeners = new UpdateListener[0];
+
     public GildedRose(Item[] items) {
         this.items = items;
     }
@@ -15,9 +24,111 @@ class GildedRose {
 //Updates the quality and sellIn values for all items in the inventory.
      
     public void updateQuality() {
+        UpdateListener[] current = listeners;
+        if (current.length > 0) {
+            updateQualityInstrumented(current, null);
+            return;
+        }
         for (Item item : items) {
             ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(item.name);
             strategy.updateItem(item);
         }
     }
-}
\ No newline at end of file
+
+//Updates all items using the given parallel engine; the result is identical to updateQuality().
+//The engine cannot notify listeners, so this fails while any are registered.
+
+    public void updateQuality(ParallelUpdateEngine engine) {
+        if (listeners.length > 0) {
+            throw new IllegalStateException("Parallel updates do not notify update listeners; remove them first");
+        }
+        engine.updateQuality(items);
+    }
+
+//Updates all items using strategies compiled from the given rule book instead of the built-in strategies.
+//Registered listeners are notified as in updateQuality().
+
+    public void updateQuality(RuleBook rules) {
+        UpdateListener[] current = listeners;
+        if (current.length > 0) {
+            updateQualityInstrumented(current, rules);
+            return;
+        }
+        rules.updateQuality(items);
+    }
+
+//Writes the current state of the inventory to disk in the background; call after updateQuality().
+//Restore with new GildedRose(InventorySnapshotter.restore(file)).
+
+    public CompletableFuture<Void> snapshot(InventorySnapshotter snapshotter) {
+        return snapshotter.snapshotAsync(items);
+    }
+
+//Advances every item by the given number of days in one step per item.
+//The result is the same as calling updateQuality() that many times, which is what happens
+//while listeners are registered so that they see every day.
+
+    public void advance(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative: " + days);
+        }
+        if (listeners.length > 0) {
+            for (int day = 0; day < days; day++) {
+                updateQuality();
+            }
+            return;
+        }
+        for (Item item : items) {
+            ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(item.name);
+            strategy.advance(item, days);
+        }
+    }
+
+//Registers a listener notified about every item during updateQuality().
+
+    public synchronized void addUpdateListener(UpdateListener listener) {
+        UpdateListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public synchronized void removeUpdateListener(UpdateListener listener) {
+        listeners = Arrays.stream(listeners).filter(l -> l != listener).toArray(UpdateListener[]::new);
+    }
+
+    // Uses the built-in strategies when rules is null
+    private void updateQualityInstrumented(UpdateListener[] current, RuleBook rules) {
+        long passStart = System.nanoTime();
+        boolean timed = false;
+        for (UpdateListener listener : current) {
+            timed |= listener.needsItemTimings();
+            listener.passStarted(items.length);
+        }
+        for (int i = 0; i < items.length; i++) {
+            Item item = items[i];
+            int previousSellIn = item.sellIn;
+            int previousQuality = item.quality;
+            ItemCategory category = ItemCategory.of(item.name);
+            ItemUpdateStrategy strategy = rules == null
+                    ? ItemStrategyFactory.getStrategy(category)
+                    : rules.getStrategy(item.name);
+
+            long nanos = 0;
+            if (timed) {
+                long start = System.nanoTime();
+                strategy.updateItem(item);
+                nanos = System.nanoTime() - start;
+            } else {
+                strategy.updateItem(item);
+            }
+
+            for (UpdateListener listener : current) {
+                listener.itemUpdated(i, item, category, previousSellIn, previousQuality, nanos);
+            }
+        }
+        long passNanos = System.nanoTime() - passStart;
+        for (UpdateListener listener : current) {
+            listener.passFinished(passNanos);
+        }
+    }
+}
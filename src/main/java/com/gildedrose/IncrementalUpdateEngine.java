@@ -0,0 +1,116 @@
+package com.gildedrose;
+
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+/**
+ * Daily update engine that stops visiting items whose quality can no longer change.
+ * Items are split into a live partition, updated every day with their strategy, and a
+ * fixed partition whose only change is their sellIn moving down by one per day.
+ * Fixed items are advanced lazily from a global day counter, so the daily cost scales
+ * with the number of live items rather than the size of the inventory.
+ *
+ * The sellIn of fixed items is only written back by {@link #materialize()}; until then the
+ * Item objects of fixed items hold the value they had when they became fixed.
+ * Items must not be modified by anyone else while the engine owns them.
+ */
+public class IncrementalUpdateEngine {
+
+    private static final int LIVE = -1;
+
+    private final Item[] items;
+    private final ItemCategory[] categories;
+    private final ItemUpdateStrategy[] strategies;
+
+    // Indexes of live items, in their original order
+    private final int[] live;
+    private int liveCount;
+
+    // Day on which each item last had its sellIn written, or LIVE
+    private final int[] fixedSince;
+    private final int[] fixed;
+    private int fixedCount;
+
+    private int day;
+
+    public IncrementalUpdateEngine(Item[] items) {
+        this.items = items;
+        this.categories = new ItemCategory[items.length];
+        this.strategies = new ItemUpdateStrategy[items.length];
+        this.live = new int[items.length];
+        this.fixedSince = new int[items.length];
+        this.fixed = new int[items.length];
+
+        for (int i = 0; i < items.length; i++) {
+            Item item = items[i];
+            categories[i] = ItemCategory.of(item.name);
+            strategies[i] = ItemStrategyFactory.getStrategy(categories[i]);
+            if (categories[i].isQualityFixedPoint(item.sellIn, item.quality)) {
+                moveToFixed(i);
+            } else {
+                fixedSince[i] = LIVE;
+                live[liveCount++] = i;
+            }
+        }
+    }
+
+    /**
+     * Updates all live items and moves those that reached a fixed point into the fixed partition.
+     */
+    public void updateQuality() {
+        day++;
+        int kept = 0;
+        for (int k = 0; k < liveCount; k++) {
+            int index = live[k];
+            Item item = items[index];
+            strategies[index].updateItem(item);
+            if (categories[index].isQualityFixedPoint(item.sellIn, item.quality)) {
+                moveToFixed(index);
+            } else {
+                live[kept++] = index;
+            }
+        }
+        liveCount = kept;
+    }
+
+    /**
+     * Writes the pending sellIn changes of all fixed items back into their Item objects.
+     */
+    public void materialize() {
+        for (int k = 0; k < fixedCount; k++) {
+            int index = fixed[k];
+            items[index].sellIn = sellIn(index);
+            fixedSince[index] = day;
+        }
+    }
+
+    /**
+     * Returns the current sellIn of an item without materializing the whole inventory.
+     *
+     * @param index The index of the item
+     * @return The sellIn the item would have after the same number of GildedRose updates
+     */
+    public int sellIn(int index) {
+        Item item = items[index];
+        if (fixedSince[index] == LIVE || categories[index] == ItemCategory.SULFURAS) {
+            return item.sellIn;
+        }
+        return item.sellIn - (day - fixedSince[index]);
+    }
+
+    public int liveCount() {
+        return liveCount;
+    }
+
+    public int fixedCount() {
+        return fixedCount;
+    }
+
+    public Item[] items() {
+        return items;
+    }
+
+    private void moveToFixed(int index) {
+        fixedSince[index] = day;
+        fixed[fixedCount++] = index;
+    }
+}
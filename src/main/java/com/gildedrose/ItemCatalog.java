@@ -0,0 +1,131 @@
+package com.gildedrose;
+
+import com.gildedrose.columnar.NameDictionary;
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Inventory that interns item names and keeps a name id and category code beside every item.
+ *
+ * Feeds create a new String for every record, so millions of items hold their own copy of a
+ * handful of names. Adding an item to the catalog points its name at the single interned copy,
+ * leaving the duplicates to the garbage collector. The category of each name is classified once,
+ * so the daily update finds the strategy of an item with an array index instead of comparing
+ * its name against the item types.
+ */
+public class ItemCatalog {
+
+    // Strategies indexed by category code
+    private static final ItemUpdateStrategy[] STRATEGIES = Arrays.stream(ItemCategory.values())
+            .map(ItemStrategyFactory::getStrategy)
+            .toArray(ItemUpdateStrategy[]::new);
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final NameDictionary names = new NameDictionary();
+    private Item[] items;
+    private int[] nameIds;
+    private byte[] categories;
+    private int size;
+
+    public ItemCatalog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ItemCatalog(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.items = new Item[capacity];
+        this.nameIds = new int[capacity];
+        this.categories = new byte[capacity];
+    }
+
+    public static ItemCatalog of(Item[] items) {
+        ItemCatalog catalog = new ItemCatalog(items.length);
+        for (Item item : items) {
+            catalog.add(item);
+        }
+        return catalog;
+    }
+
+    /**
+     * Adds an item, replacing its name with the interned copy.
+     *
+     * @return The index of the item in the catalog
+     */
+    public int add(Item item) {
+        if (size == items.length) {
+            grow();
+        }
+        int nameId = names.intern(item.name);
+        item.name = names.name(nameId);
+        items[size] = item;
+        nameIds[size] = nameId;
+        categories[size] = names.categoryCode(nameId);
+        return size++;
+    }
+
+    /**
+     * Creates an item with the interned name and adds it.
+     *
+     * @return The index of the item in the catalog
+     */
+    public int add(String name, int sellIn, int quality) {
+        return add(new Item(name, sellIn, quality));
+    }
+
+    /**
+     * Updates the quality and sellIn values for all items.
+     */
+    public void updateQuality() {
+        for (int i = 0; i < size; i++) {
+            STRATEGIES[categories[i]].updateItem(items[i]);
+        }
+    }
+
+    public Item item(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    public int nameId(int index) {
+        checkIndex(index);
+        return nameIds[index];
+    }
+
+    public ItemCategory category(int index) {
+        checkIndex(index);
+        return ItemCategory.fromCode(categories[index]);
+    }
+
+    /**
+     * @return The dictionary of interned names
+     */
+    public NameDictionary names() {
+        return names;
+    }
+
+    /**
+     * @return The items in catalog order
+     */
+    public Item[] toItems() {
+        return Arrays.copyOf(items, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Item " + index + " of " + size);
+        }
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+    }
+}
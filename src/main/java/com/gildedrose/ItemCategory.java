@@ -0,0 +1,166 @@
+package com.gildedrose;
+
+/**
+ * The item types known to the Gilded Rose, with their daily update rules expressed
+ * on primitive sellIn/quality values so they can run over arrays instead of Item objects.
+ * The rules mirror the strategy classes in com.gildedrose.strategy exactly, including
+ * their behavior for qualities already outside the 0..50 range.
+ */
+public enum ItemCategory {
+
+    NORMAL {
+        @Override
+        public int nextQuality(int sellIn, int quality) {
+            if (quality > 0) {
+                quality--;
+            }
+            if (sellIn <= 0 && quality > 0) {
+                quality--; // Double degradation after sell date
+            }
+            return quality;
+        }
+    },
+
+    AGED_BRIE {
+        @Override
+        public int nextQuality(int sellIn, int quality) {
+            if (quality < MAX_QUALITY) {
+                quality++;
+            }
+            if (sellIn <= 0 && quality < MAX_QUALITY) {
+                quality++; // Double improvement after sell date
+            }
+            return quality;
+        }
+    },
+
+    SULFURAS {
+        @Override
+        public int nextSellIn(int sellIn) {
+            return sellIn; // Legendary items never age
+        }
+
+        @Override
+        public int nextQuality(int sellIn, int quality) {
+            return quality;
+        }
+    },
+
+    BACKSTAGE_PASS {
+        @Override
+        public int nextQuality(int sellIn, int quality) {
+            if (sellIn <= 0) {
+                return 0; // Worthless after concert
+            }
+            if (quality >= MAX_QUALITY) {
+                return quality;
+            }
+            int increase = sellIn <= TRIPLE_INCREASE_THRESHOLD ? 3
+                    : sellIn <= DOUBLE_INCREASE_THRESHOLD ? 2 : 1;
+            return Math.min(quality + increase, MAX_QUALITY);
+        }
+    },
+
+    CONJURED {
+        @Override
+        public int nextQuality(int sellIn, int quality) {
+            if (quality > 0) {
+                quality = Math.max(quality - 2, 0);
+            }
+            if (sellIn <= 0 && quality > 0) {
+                quality = Math.max(quality - 2, 0); // Double degradation after sell date
+            }
+            return quality;
+        }
+    };
+
+    public static final int MAX_QUALITY = 50;
+    public static final int DOUBLE_INCREASE_THRESHOLD = 10;
+    public static final int TRIPLE_INCREASE_THRESHOLD = 5;
+
+    private static final ItemCategory[] BY_CODE = values();
+
+    /**
+     * Classifies an item name using the same rules as ItemStrategyFactory.
+     *
+     * @param itemName The name of the item
+     * @return The category of the item
+     */
+    public static ItemCategory of(String itemName) {
+        if (itemName.equals(ItemStrategyFactory.AGED_BRIE)) {
+            return AGED_BRIE;
+        }
+        if (itemName.equals(ItemStrategyFactory.SULFURAS)) {
+            return SULFURAS;
+        }
+        if (itemName.equals(ItemStrategyFactory.BACKSTAGE_PASSES)) {
+            return BACKSTAGE_PASS;
+        }
+        if (itemName.startsWith(ItemStrategyFactory.CONJURED_PREFIX)) {
+            return CONJURED;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * @param code A code previously returned by {@link #code()}
+     * @return The category with that code
+     */
+    public static ItemCategory fromCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    /**
+     * @return A compact code for this category, suitable for storing in a byte array
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Returns the sellIn value after one day.
+     *
+     * @param sellIn The sellIn value before the update
+     * @return The sellIn value after the update
+     */
+    public int nextSellIn(int sellIn) {
+        return sellIn - 1;
+    }
+
+    /**
+     * Tells whether the quality of an item can never change again, so that future updates
+     * only move its sellIn. Items are at a fixed point when:
+     * - They are Sulfuras
+     * - They are normal or conjured with quality 0 or less
+     * - They are Aged Brie at quality 50 or more
+     * - They are backstage passes on or past the concert date, with quality 0
+     *
+     * @param sellIn  The current sellIn value
+     * @param quality The current quality
+     * @return true if no future update will change the quality
+     */
+    public boolean isQualityFixedPoint(int sellIn, int quality) {
+        switch (this) {
+            case SULFURAS:
+                return true;
+            case NORMAL:
+            case CONJURED:
+                return quality <= 0;
+            case AGED_BRIE:
+                return quality >= MAX_QUALITY;
+            case BACKSTAGE_PASS:
+                return sellIn <= 0 && quality == 0;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the quality after one day.
+     *
+     * @param sellIn  The sellIn value before the update
+     * @param quality The quality before the update
+     * @return The quality after the update
+     */
+    public abstract int nextQuality(int sellIn, int quality);
+}
@@ -5,6 +5,8 @@ import com.gildedrose.strategy.*;
 /**
  * Factory class responsible for determining which update strategy to use for each item type.
  * This centralizes the logic for mapping item names to their corresponding behaviors.
+ * Strategies are stateless, so a single shared instance of each is handed out, and
+ * resolved names are kept in a bounded cache so repeated lookups avoid the comparison chain.
  */
 public class ItemStrategyFactory {
     
@@ -14,6 +16,29 @@ public class ItemStrategyFactory {
     public static final String BACKSTAGE_PASSES = "Backstage passes to a TAFKAL80ETC concert";
     public static final String CONJURED_PREFIX = "Conjured";
     
+    // Maximum number of distinct item names kept in the resolution cache
+    public static final int CACHE_SIZE = 10_000;
+    
+    // Shared stateless strategy instances
+    private static final ItemUpdateStrategy AGED_BRIE_STRATEGY = new AgedBrieStrategy();
+    private static final ItemUpdateStrategy SULFURAS_STRATEGY = new SulfurasStrategy();
+    private static final ItemUpdateStrategy BACKSTAGE_PASS_STRATEGY = new BackstagePassStrategy();
+    private static final ItemUpdateStrategy CONJURED_ITEM_STRATEGY = new ConjuredItemStrategy();
+    private static final ItemUpdateStrategy NORMAL_ITEM_STRATEGY = new NormalItemStrategy();
+    
+    // Strategies indexed by category code, built when the class is initialized
+    private static final ItemUpdateStrategy[] BY_CATEGORY = new ItemUpdateStrategy[ItemCategory.values().length];
+    
+    static {
+        BY_CATEGORY[ItemCategory.NORMAL.code()] = NORMAL_ITEM_STRATEGY;
+        BY_CATEGORY[ItemCategory.AGED_BRIE.code()] = AGED_BRIE_STRATEGY;
+        BY_CATEGORY[ItemCategory.SULFURAS.code()] = SULFURAS_STRATEGY;
+        BY_CATEGORY[ItemCategory.BACKSTAGE_PASS.code()] = BACKSTAGE_PASS_STRATEGY;
+        BY_CATEGORY[ItemCategory.CONJURED.code()] = CONJURED_ITEM_STRATEGY;
+    }
+    
+    private static final StrategyCache CACHE = new StrategyCache(CACHE_SIZE, ItemStrategyFactory::resolveStrategy);
+    
     /**
      * Returns the appropriate update strategy for the given item name.
      * 
@@ -21,23 +46,45 @@ public class ItemStrategyFactory {
      * @return The strategy to use for updating this item type
      */
     public static ItemUpdateStrategy getStrategy(String itemName) {
-        if (itemName.equals(AGED_BRIE)) {
-            return new AgedBrieStrategy();
-        }
-        
-        if (itemName.equals(SULFURAS)) {
-            return new SulfurasStrategy();
-        }
-        
-        if (itemName.equals(BACKSTAGE_PASSES)) {
-            return new BackstagePassStrategy();
+        return CACHE.get(itemName);
+    }
+    
+    /**
+     * Returns the name resolution cache, exposing its hit and miss counters.
+     *
+     * @return The shared strategy cache
+     */
+    public static StrategyCache getCache() {
+        return CACHE;
+    }
+    
+    /**
+     * Returns the update strategy for the given item category.
+     *
+     * @param category The category of the item
+     * @return The strategy to use for updating items of this category
+     */
+    public static ItemUpdateStrategy getStrategy(ItemCategory category) {
+        return BY_CATEGORY[category.code()];
+    }
+    
+    /**
+     * Loads and links every strategy class and resolves the well-known item names into the cache,
+     * so that the first update pass of a short-lived process does no class loading or name resolution
+     * of its own. Calling it more than once is harmless.
+     */
+    public static void preload() {
+        for (ItemUpdateStrategy strategy : BY_CATEGORY) {
+            strategy.updateItem(new Item("", 1, 1));
+            strategy.updateItem(new Item("", 0, 1));
+            strategy.advance(new Item("", 1, 1), 2);
         }
-        
-        if (itemName.startsWith(CONJURED_PREFIX)) {
-            return new ConjuredItemStrategy();
+        for (String itemName : new String[] { AGED_BRIE, SULFURAS, BACKSTAGE_PASSES }) {
+            CACHE.get(itemName);
         }
-        
-        // Default to normal item strategy
-        return new NormalItemStrategy();
+    }
+    
+    static ItemUpdateStrategy resolveStrategy(String itemName) {
+        return getStrategy(ItemCategory.of(itemName));
     }
 }
\ No newline at end of file
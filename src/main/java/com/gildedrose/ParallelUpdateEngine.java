@@ -0,0 +1,108 @@
+package com.gildedrose;
+
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Updates an inventory across several cores using a dedicated ForkJoinPool.
+ * The items array is split recursively until each task covers at most one chunk,
+ * and each chunk is updated with the same strategies as the sequential loop.
+ * Items are independent of each other, so the result is identical to GildedRose.updateQuality().
+ */
+public class ParallelUpdateEngine implements AutoCloseable {
+
+    // Inventories at or below this size are updated on the calling thread
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 16_384;
+
+    // Roughly the number of Item objects (header, name reference, two ints) that fit in a 256 KB L2 cache
+    public static final int DEFAULT_CHUNK_SIZE = 8_192;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+    private final int chunkSize;
+
+    public ParallelUpdateEngine() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelUpdateEngine(int parallelism) {
+        this(parallelism, DEFAULT_SEQUENTIAL_CUTOFF, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param parallelism      The number of worker threads
+     * @param sequentialCutoff Inventories of at most this many items are updated sequentially
+     * @param chunkSize        The number of items updated by a single task
+     */
+    public ParallelUpdateEngine(int parallelism, int sequentialCutoff, int chunkSize) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.sequentialCutoff = sequentialCutoff;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Updates the quality and sellIn values for all given items.
+     *
+     * @param items The items to update
+     */
+    public void updateQuality(Item[] items) {
+        if (items.length <= sequentialCutoff) {
+            updateRange(items, 0, items.length);
+            return;
+        }
+        pool.invoke(new UpdateTask(items, 0, items.length, chunkSize));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    static void updateRange(Item[] items, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Item item = items[i];
+            ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(item.name);
+            strategy.updateItem(item);
+        }
+    }
+
+    // Also forked by StoreSimulation to split large stores within its own pool
+    static final class UpdateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Item[] items;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        UpdateTask(Item[] items, int from, int to, int chunkSize) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                updateRange(items, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new UpdateTask(items, from, middle, chunkSize), new UpdateTask(items, middle, to, chunkSize));
+        }
+    }
+}
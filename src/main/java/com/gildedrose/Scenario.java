@@ -0,0 +1,82 @@
+package com.gildedrose;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A what-if variation of a base inventory, simulated by WhatIfRunner: starting qualities overridden
+ * for some items, a different daily degradation for conjured items, and a horizon in days.
+ * Only the differences from the base inventory are stored.
+ */
+public final class Scenario {
+
+    // Quality lost per day by conjured items under the standard rules, doubled after the sell date
+    public static final int STANDARD_CONJURED_DEGRADATION = 2;
+
+    private final String name;
+    private final int days;
+    private final int[] overrideIndexes;
+    private final int[] overrideQualities;
+    private final int conjuredDegradation;
+
+    /**
+     * @param name                Label reported with the results
+     * @param days                Number of days to simulate
+     * @param startingQualities   Starting quality by item index, for the items that differ from the base inventory
+     * @param conjuredDegradation Quality lost per day by conjured items before their sell date
+     */
+    public Scenario(String name, int days, Map<Integer, Integer> startingQualities, int conjuredDegradation) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative: " + days);
+        }
+        if (conjuredDegradation < 0) {
+            throw new IllegalArgumentException("conjuredDegradation must not be negative: " + conjuredDegradation);
+        }
+        this.name = name;
+        this.days = days;
+        this.conjuredDegradation = conjuredDegradation;
+        Map<Integer, Integer> sorted = new TreeMap<>(startingQualities);
+        this.overrideIndexes = sorted.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.overrideQualities = sorted.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return A scenario that runs the base inventory unchanged under the standard rules
+     */
+    public static Scenario baseline(String name, int days) {
+        return new Scenario(name, days, Map.of(), STANDARD_CONJURED_DEGRADATION);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public int conjuredDegradation() {
+        return conjuredDegradation;
+    }
+
+    /**
+     * @return The number of items whose starting quality is overridden
+     */
+    public int overrideCount() {
+        return overrideIndexes.length;
+    }
+
+    int overrideIndex(int position) {
+        return overrideIndexes[position];
+    }
+
+    int overrideQuality(int position) {
+        return overrideQualities[position];
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + days + " days, " + overrideIndexes.length + " overrides, conjured -"
+                + conjuredDegradation + "/day)";
+    }
+}
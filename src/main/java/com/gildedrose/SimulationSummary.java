@@ -0,0 +1,86 @@
+package com.gildedrose;
+
+/**
+ * Per-day totals over a set of store inventories: how many items there are, their total quality,
+ * and how many are past their sell date. Summaries of disjoint sets of stores are merged by adding them.
+ */
+public final class SimulationSummary {
+
+    private final long[] itemCounts;
+    private final long[] totalQualities;
+    private final long[] expiredCounts;
+
+    /**
+     * @param days The number of simulated days
+     */
+    public SimulationSummary(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative: " + days);
+        }
+        this.itemCounts = new long[days];
+        this.totalQualities = new long[days];
+        this.expiredCounts = new long[days];
+    }
+
+    /**
+     * Adds the state of a store after the given day.
+     *
+     * @param day   The day just simulated, starting at 1
+     * @param items The items of the store
+     */
+    public void record(int day, Item[] items) {
+        long quality = 0;
+        long expired = 0;
+        for (Item item : items) {
+            quality += item.quality;
+            if (item.sellIn < 0) {
+                expired++;
+            }
+        }
+        add(day, items.length, quality, expired);
+    }
+
+    /**
+     * Adds the totals of another summary over the same number of days.
+     */
+    public void merge(SimulationSummary other) {
+        if (other.days() != days()) {
+            throw new IllegalArgumentException("Cannot merge " + other.days() + " days into " + days());
+        }
+        for (int day = 1; day <= days(); day++) {
+            add(day, other.itemCount(day), other.totalQuality(day), other.expiredCount(day));
+        }
+    }
+
+    public int days() {
+        return itemCounts.length;
+    }
+
+    public long itemCount(int day) {
+        return itemCounts[day - 1];
+    }
+
+    public long totalQuality(int day) {
+        return totalQualities[day - 1];
+    }
+
+    public long expiredCount(int day) {
+        return expiredCounts[day - 1];
+    }
+
+    void add(int day, long items, long quality, long expired) {
+        itemCounts[day - 1] += items;
+        totalQualities[day - 1] += quality;
+        expiredCounts[day - 1] += expired;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("day, items, totalQuality, expired\n");
+        for (int day = 1; day <= days(); day++) {
+            text.append(day).append(", ").append(itemCount(day)).append(", ")
+                    .append(totalQuality(day)).append(", ").append(expiredCount(day)).append('\n');
+        }
+        return text.toString();
+    }
+}
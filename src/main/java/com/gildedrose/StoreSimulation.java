@@ -0,0 +1,260 @@
+package com.gildedrose;
+
+import com.gildedrose.io.ItemTextFormat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Advances many store inventories, each with its own GildedRose instance, across worker threads.
+ *
+ * Every store runs all of its days as one task on a ForkJoinPool and records its own daily summary,
+ * so stores never wait for each other; the summaries are merged at the end. Work stealing keeps all
+ * workers busy when store sizes are skewed, and stores larger than the split threshold also split each
+ * day's update into chunks that idle workers can steal.
+ *
+ * {@link #runInProcesses} spreads the stores over several local JVMs instead, to measure scaling
+ * without sharing a heap or garbage collector.
+ */
+public class StoreSimulation implements AutoCloseable {
+
+    // Stores above this size split their daily update into chunks
+    public static final int DEFAULT_SPLIT_THRESHOLD = 65_536;
+
+    private final ForkJoinPool pool;
+    private final int splitThreshold;
+
+    public StoreSimulation(int parallelism) {
+        this(parallelism, DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    /**
+     * @param parallelism    The number of worker threads
+     * @param splitThreshold Stores with more items than this split each day into chunks of this size
+     */
+    public StoreSimulation(int parallelism, int splitThreshold) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if (splitThreshold <= 0) {
+            throw new IllegalArgumentException("splitThreshold must be positive: " + splitThreshold);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.splitThreshold = splitThreshold;
+    }
+
+    /**
+     * Advances every store by the given number of days, updating the items in place.
+     *
+     * @return The merged daily summary of all stores
+     */
+    public SimulationSummary run(List<Item[]> stores, int days) {
+        return pool.invoke(new AllStoresTask(stores, days, splitThreshold));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Advances the stores in separate JVMs, each running a StoreSimulation over its share of the stores.
+     * Stores are assigned largest first to the process with the fewest items. The given items are
+     * sent to the workers as text and are left unchanged.
+     *
+     * @param processes          The number of worker processes
+     * @param threadsPerProcess  The parallelism of each worker
+     * @return The merged daily summary of all stores
+     */
+    public static SimulationSummary runInProcesses(List<Item[]> stores, int days, int processes, int threadsPerProcess)
+            throws IOException, InterruptedException {
+        if (processes <= 0) {
+            throw new IllegalArgumentException("processes must be positive: " + processes);
+        }
+        List<List<Item[]>> partitions = partition(stores, processes);
+        List<Process> workers = new ArrayList<>();
+        try {
+            for (List<Item[]> partition : partitions) {
+                Process worker = startWorker(days, threadsPerProcess);
+                workers.add(worker);
+                Thread feeder = new Thread(() -> feed(worker, partition), "store-worker-feeder");
+                feeder.setDaemon(true);
+                feeder.start();
+            }
+
+            SimulationSummary summary = new SimulationSummary(days);
+            for (Process worker : workers) {
+                summary.merge(readSummary(worker, days));
+                int exitCode = worker.waitFor();
+                if (exitCode != 0) {
+                    throw new IOException("Store worker exited with code " + exitCode);
+                }
+            }
+            return summary;
+        } finally {
+            for (Process worker : workers) {
+                worker.destroy();
+            }
+        }
+    }
+
+    /**
+     * Worker process entry point: reads stores from standard input and writes the daily summary
+     * to standard output.
+     *
+     * @param args days and worker threads
+     */
+    public static void main(String[] args) throws IOException {
+        int days = Integer.parseInt(args[0]);
+        int threads = Integer.parseInt(args[1]);
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        int storeCount = Integer.parseInt(in.readLine());
+        List<Item[]> stores = new ArrayList<>(storeCount);
+        for (int store = 0; store < storeCount; store++) {
+            Item[] items = new Item[Integer.parseInt(in.readLine())];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = ItemTextFormat.parse(in.readLine());
+            }
+            stores.add(items);
+        }
+
+        SimulationSummary summary;
+        try (StoreSimulation simulation = new StoreSimulation(threads)) {
+            summary = simulation.run(stores, days);
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        for (int day = 1; day <= days; day++) {
+            out.write(summary.itemCount(day) + " " + summary.totalQuality(day) + " " + summary.expiredCount(day) + "\n");
+        }
+        out.flush();
+    }
+
+    static List<List<Item[]>> partition(List<Item[]> stores, int parts) {
+        List<Item[]> largestFirst = new ArrayList<>(stores);
+        largestFirst.sort(Comparator.comparingInt((Item[] store) -> store.length).reversed());
+        List<List<Item[]>> partitions = new ArrayList<>();
+        long[] loads = new long[Math.min(parts, Math.max(stores.size(), 1))];
+        for (int i = 0; i < loads.length; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (Item[] store : largestFirst) {
+            int lightest = 0;
+            for (int i = 1; i < loads.length; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            partitions.get(lightest).add(store);
+            loads[lightest] += store.length;
+        }
+        return partitions;
+    }
+
+    private static Process startWorker(int days, int threads) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                StoreSimulation.class.getName(), String.valueOf(days), String.valueOf(threads))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static void feed(Process worker, List<Item[]> stores) {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(worker.getOutputStream(), StandardCharsets.UTF_8))) {
+            out.write(stores.size() + "\n");
+            for (Item[] store : stores) {
+                out.write(store.length + "\n");
+                for (Item item : store) {
+                    out.write(ItemTextFormat.format(item));
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            worker.destroy(); // The reader sees the worker fail
+        }
+    }
+
+    private static SimulationSummary readSummary(Process worker, int days) throws IOException {
+        SimulationSummary summary = new SimulationSummary(days);
+        BufferedReader in = new BufferedReader(new InputStreamReader(worker.getInputStream(), StandardCharsets.UTF_8));
+        for (int day = 1; day <= days; day++) {
+            String line = in.readLine();
+            if (line == null) {
+                throw new IOException("Store worker ended after " + (day - 1) + " of " + days + " days");
+            }
+            String[] fields = line.split(" ");
+            summary.add(day, Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+        }
+        return summary;
+    }
+
+    private static final class AllStoresTask extends RecursiveTask<SimulationSummary> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Item[]> stores;
+        private final int days;
+        private final int splitThreshold;
+
+        AllStoresTask(List<Item[]> stores, int days, int splitThreshold) {
+            this.stores = stores;
+            this.days = days;
+            this.splitThreshold = splitThreshold;
+        }
+
+        @Override
+        protected SimulationSummary compute() {
+            List<StoreTask> tasks = new ArrayList<>(stores.size());
+            for (Item[] store : stores) {
+                tasks.add(new StoreTask(new GildedRose(store), days, splitThreshold));
+            }
+            SimulationSummary summary = new SimulationSummary(days);
+            for (StoreTask task : ForkJoinTask.invokeAll(tasks)) {
+                summary.merge(task.join());
+            }
+            return summary;
+        }
+    }
+
+    private static final class StoreTask extends RecursiveTask<SimulationSummary> {
+        private static final long serialVersionUID = 1L;
+
+        private final GildedRose store;
+        private final int days;
+        private final int splitThreshold;
+
+        StoreTask(GildedRose store, int days, int splitThreshold) {
+            this.store = store;
+            this.days = days;
+            this.splitThreshold = splitThreshold;
+        }
+
+        @Override
+        protected SimulationSummary compute() {
+            SimulationSummary summary = new SimulationSummary(days);
+            for (int day = 1; day <= days; day++) {
+                if (store.items.length > splitThreshold) {
+                    new ParallelUpdateEngine.UpdateTask(store.items, 0, store.items.length, splitThreshold).invoke();
+                } else {
+                    store.updateQuality();
+                }
+                summary.record(day, store.items);
+            }
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.gildedrose;
+
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe least-recently-used cache mapping item names to their resolved update strategy.
+ * Repeated names resolve with a single hash lookup and no allocation.
+ * When the cache is full, the name used least recently is evicted to make room for the new one,
+ * so a working set that fits keeps hitting even when more distinct names pass through.
+ *
+ * Lookups go to a concurrent map; the recency order is kept in a separate access-ordered map under a lock.
+ * Every miss starts a new epoch, and a hit takes the lock only when it is the first hit on its name since
+ * the last miss, so a steady working set is served without locking. Recency is therefore tracked to the
+ * granularity of misses: among names used since the last miss, the order is that of their first use.
+ */
+public class StrategyCache {
+
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final LinkedHashMap<String, Entry> recency;
+    private final Function<String, ItemUpdateStrategy> resolver;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long epoch;
+
+    /**
+     * @param maxSize  The maximum number of names kept in the cache
+     * @param resolver Resolves a name to its strategy on a cache miss
+     */
+    public StrategyCache(int maxSize, Function<String, ItemUpdateStrategy> resolver) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.resolver = resolver;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+        this.recency = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true);
+    }
+
+    /**
+     * Returns the cached strategy for the given name, resolving and caching it on a miss.
+     *
+     * @param itemName The name of the item
+     * @return The strategy to use for updating this item type
+     */
+    public ItemUpdateStrategy get(String itemName) {
+        Entry entry = entries.get(itemName);
+        if (entry != null) {
+            hits.increment();
+            if (entry.epoch != epoch) {
+                touch(itemName, entry);
+            }
+            return entry.strategy;
+        }
+
+        misses.increment();
+        ItemUpdateStrategy strategy = resolver.apply(itemName);
+        synchronized (recency) {
+            Entry raced = recency.get(itemName);
+            if (raced != null) {
+                return raced.strategy;
+            }
+            long current = ++epoch;
+            entry = new Entry(strategy, current);
+            recency.put(itemName, entry);
+            entries.put(itemName, entry);
+            if (recency.size() > maxSize) {
+                evictEldest();
+            }
+        }
+        return strategy;
+    }
+
+    private void touch(String itemName, Entry entry) {
+        synchronized (recency) {
+            // A no-op if the name was evicted since the lookup
+            recency.get(itemName);
+            entry.epoch = epoch;
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<String, Entry>> eldest = recency.entrySet().iterator();
+        String name = eldest.next().getKey();
+        eldest.remove();
+        entries.remove(name);
+        evictions.increment();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all cached names and resets the counters.
+     */
+    public void clear() {
+        synchronized (recency) {
+            recency.clear();
+            entries.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private static final class Entry {
+        final ItemUpdateStrategy strategy;
+        // The epoch in which the name was last moved to the most recently used end
+        volatile long epoch;
+
+        Entry(ItemUpdateStrategy strategy, long epoch) {
+            this.strategy = strategy;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.gildedrose;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * Simulates many what-if scenarios over one base inventory in parallel.
+ *
+ * The base inventory is copied once into primitive columns that every scenario reads and none writes.
+ * A scenario walks the items one at a time, applying its own overrides on the fly, and adds each item's
+ * daily quality and expiry into per-day difference arrays. Memory per scenario therefore grows with its
+ * overrides and its horizon, never with the inventory size, and an item stops costing anything once its
+ * quality reaches a fixed point. Results are handed to the sink as each scenario finishes and are not kept.
+ */
+public class WhatIfRunner implements AutoCloseable {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final byte[] categories;
+    private final int[] sellIns;
+    private final int[] qualities;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param baseInventory The inventory every scenario starts from; later changes to it are not seen
+     * @param parallelism   The number of scenarios simulated at once
+     */
+    public WhatIfRunner(Item[] baseInventory, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        int size = baseInventory.length;
+        this.categories = new byte[size];
+        this.sellIns = new int[size];
+        this.qualities = new int[size];
+        for (int i = 0; i < size; i++) {
+            Item item = baseInventory[i];
+            categories[i] = ItemCategory.of(item.name).code();
+            sellIns[i] = item.sellIn;
+            qualities[i] = item.quality;
+        }
+
+        // A full queue makes the submitting thread run the scenario itself, so a long or lazily
+        // generated list of scenarios is never queued up all at once. Unlike CallerRunsPolicy this
+        // also runs scenarios rejected because close() raced with run(), so every one of them finishes.
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism), runnable -> {
+                    Thread thread = new Thread(runnable, "what-if-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (task, pool) -> task.run());
+    }
+
+    /**
+     * Simulates the scenarios in parallel and returns once all of them have finished.
+     *
+     * @param sink Receives each scenario with its daily summary; called from worker threads
+     * @throws IllegalArgumentException if a scenario overrides an item outside the base inventory
+     * @throws IllegalStateException if the runner has been closed
+     * @throws CompletionException wrapping any Error thrown while simulating a scenario or in the sink
+     */
+    public void run(Iterable<Scenario> scenarios, BiConsumer<Scenario, SimulationSummary> sink) {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("WhatIfRunner is closed");
+        }
+        Phaser pending = new Phaser(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (Scenario scenario : scenarios) {
+            if (failure.get() != null) {
+                break;
+            }
+            pending.register();
+            executor.execute(() -> {
+                try {
+                    sink.accept(scenario, simulate(scenario));
+                } catch (Throwable e) {
+                    // Errors too, so that run() never returns with scenarios silently missing
+                    failure.compareAndSet(null, e);
+                } finally {
+                    pending.arriveAndDeregister();
+                }
+            });
+        }
+        pending.arriveAndAwaitAdvance();
+        Throwable failed = failure.get();
+        if (failed instanceof RuntimeException) {
+            throw (RuntimeException) failed;
+        }
+        if (failed != null) {
+            throw new CompletionException(failed);
+        }
+    }
+
+    /**
+     * Simulates a single scenario on the calling thread.
+     *
+     * @return The daily item count, total quality and expired count of the scenario
+     */
+    public SimulationSummary simulate(Scenario scenario) {
+        int overrides = scenario.overrideCount();
+        if (overrides > 0 && (scenario.overrideIndex(0) < 0 || scenario.overrideIndex(overrides - 1) >= size())) {
+            throw new IllegalArgumentException("Scenario " + scenario.name() + " overrides items outside 0.."
+                    + (size() - 1));
+        }
+
+        int days = scenario.days();
+        int conjuredDegradation = scenario.conjuredDegradation();
+        // Difference arrays indexed by day: an item adds its value at the first day and removes it after the last
+        long[] qualityChanges = new long[days + 2];
+        long[] expiredChanges = new long[days + 2];
+        int nextOverride = 0;
+
+        for (int i = 0; i < categories.length; i++) {
+            ItemCategory category = CATEGORIES[categories[i]];
+            int sellIn = sellIns[i];
+            int quality = qualities[i];
+            if (nextOverride < overrides && scenario.overrideIndex(nextOverride) == i) {
+                quality = scenario.overrideQuality(nextOverride++);
+            }
+
+            long firstExpiredDay = category == ItemCategory.SULFURAS
+                    ? (sellIn < 0 ? 1 : Long.MAX_VALUE)
+                    : Math.max(1, (long) sellIn + 1);
+            if (firstExpiredDay <= days) {
+                expiredChanges[(int) firstExpiredDay]++;
+                expiredChanges[days + 1]--;
+            }
+
+            int day = 1;
+            while (day <= days && !isQualityFixedPoint(category, sellIn, quality, conjuredDegradation)) {
+                quality = nextQuality(category, sellIn, quality, conjuredDegradation);
+                sellIn = category.nextSellIn(sellIn);
+                qualityChanges[day] += quality;
+                qualityChanges[day + 1] -= quality;
+                day++;
+            }
+            if (day <= days) {
+                qualityChanges[day] += quality;
+                qualityChanges[days + 1] -= quality;
+            }
+        }
+
+        SimulationSummary summary = new SimulationSummary(days);
+        long quality = 0;
+        long expired = 0;
+        for (int day = 1; day <= days; day++) {
+            quality += qualityChanges[day];
+            expired += expiredChanges[day];
+            summary.add(day, categories.length, quality, expired);
+        }
+        return summary;
+    }
+
+    /**
+     * @return The number of items in the base inventory
+     */
+    public int size() {
+        return categories.length;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static boolean isQualityFixedPoint(ItemCategory category, int sellIn, int quality, int conjuredDegradation) {
+        if (category == ItemCategory.CONJURED) {
+            return conjuredDegradation == 0 || quality <= 0;
+        }
+        return category.isQualityFixedPoint(sellIn, quality);
+    }
+
+    // Conjured items follow the scenario's degradation, doubled after the sell date like the standard rule
+    private static int nextQuality(ItemCategory category, int sellIn, int quality, int conjuredDegradation) {
+        if (category != ItemCategory.CONJURED || conjuredDegradation == Scenario.STANDARD_CONJURED_DEGRADATION) {
+            return category.nextQuality(sellIn, quality);
+        }
+        if (quality > 0) {
+            quality = Math.max(quality - conjuredDegradation, 0);
+        }
+        if (sellIn <= 0 && quality > 0) {
+            quality = Math.max(quality - conjuredDegradation, 0);
+        }
+        return quality;
+    }
+}
@@ -0,0 +1,234 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays inventory: sellIn, quality and category codes live in parallel
+ * primitive arrays and names are interned into a shared dictionary.
+ * This avoids one object header and one String reference per item and keeps the
+ * fields touched by the daily update contiguous in memory.
+ */
+public class ColumnarInventory {
+
+    private final NameDictionary names;
+    private int[] nameIds;
+    private int[] sellIn;
+    private int[] quality;
+    private byte[] categories;
+    private int size;
+    // Start of each category's run while the rows are sorted by category, otherwise null
+    private int[] categoryRunStart;
+    // Position in insertion order of each row once the rows have been reordered, otherwise null
+    private int[] insertionIndex;
+
+    public ColumnarInventory(int initialCapacity) {
+        this(initialCapacity, new NameDictionary());
+    }
+
+    public ColumnarInventory(int initialCapacity, NameDictionary names) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.names = names;
+        this.nameIds = new int[capacity];
+        this.sellIn = new int[capacity];
+        this.quality = new int[capacity];
+        this.categories = new byte[capacity];
+    }
+
+    /**
+     * Builds a columnar copy of the given items.
+     *
+     * @param items The items to copy
+     * @return A new inventory holding the same names, sellIn and quality values
+     */
+    public static ColumnarInventory fromItems(Item[] items) {
+        ColumnarInventory inventory = new ColumnarInventory(items.length);
+        for (Item item : items) {
+            inventory.add(item.name, item.sellIn, item.quality);
+        }
+        return inventory;
+    }
+
+    /**
+     * Appends an item to the inventory.
+     *
+     * @return The index of the new item
+     */
+    public int add(String name, int itemSellIn, int itemQuality) {
+        if (size == sellIn.length) {
+            grow();
+        }
+        int nameId = names.intern(name);
+        nameIds[size] = nameId;
+        sellIn[size] = itemSellIn;
+        quality[size] = itemQuality;
+        categories[size] = names.categoryCode(nameId);
+        if (insertionIndex != null) {
+            insertionIndex[size] = size;
+        }
+        categoryRunStart = null;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = sellIn.length * 2;
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        sellIn = Arrays.copyOf(sellIn, capacity);
+        quality = Arrays.copyOf(quality, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        if (insertionIndex != null) {
+            insertionIndex = Arrays.copyOf(insertionIndex, capacity);
+        }
+    }
+
+    /**
+     * Reorders the rows so that items of the same category are contiguous, keeping the
+     * relative order of items within a category. Row indexes change; use this before
+     * running per-category kernels and before any index-based adapters are relied on.
+     * toItems() and copyTo() still follow the order in which items were added.
+     */
+    public void sortByCategory() {
+        if (categoryRunStart != null) {
+            return;
+        }
+        int categoryCount = ItemCategory.values().length;
+        int[] runStart = new int[categoryCount + 1];
+        for (int i = 0; i < size; i++) {
+            runStart[categories[i] + 1]++;
+        }
+        for (int c = 0; c < categoryCount; c++) {
+            runStart[c + 1] += runStart[c];
+        }
+
+        int[] next = Arrays.copyOf(runStart, categoryCount);
+        int[] sortedNameIds = new int[nameIds.length];
+        int[] sortedSellIn = new int[sellIn.length];
+        int[] sortedQuality = new int[quality.length];
+        byte[] sortedCategories = new byte[categories.length];
+        int[] sortedInsertionIndex = new int[sellIn.length];
+        for (int i = 0; i < size; i++) {
+            int target = next[categories[i]]++;
+            sortedNameIds[target] = nameIds[i];
+            sortedSellIn[target] = sellIn[i];
+            sortedQuality[target] = quality[i];
+            sortedCategories[target] = categories[i];
+            sortedInsertionIndex[target] = insertionIndex(i);
+        }
+
+        nameIds = sortedNameIds;
+        sellIn = sortedSellIn;
+        quality = sortedQuality;
+        categories = sortedCategories;
+        insertionIndex = sortedInsertionIndex;
+        categoryRunStart = runStart;
+    }
+
+    /**
+     * @return true if the rows are currently sorted by category
+     */
+    public boolean isSortedByCategory() {
+        return categoryRunStart != null;
+    }
+
+    /**
+     * @return The index of the first row of the category; only valid while sorted by category
+     */
+    public int categoryStart(ItemCategory category) {
+        requireSorted();
+        return categoryRunStart[category.ordinal()];
+    }
+
+    /**
+     * @return The index after the last row of the category; only valid while sorted by category
+     */
+    public int categoryEnd(ItemCategory category) {
+        requireSorted();
+        return categoryRunStart[category.ordinal() + 1];
+    }
+
+    private void requireSorted() {
+        if (categoryRunStart == null) {
+            throw new IllegalStateException("Inventory is not sorted by category");
+        }
+    }
+
+    /**
+     * @param row A row index
+     * @return The position of the row's item in the order items were added
+     */
+    public int insertionIndex(int row) {
+        return insertionIndex == null ? row : insertionIndex[row];
+    }
+
+    /**
+     * @return New Item objects holding the current state of every item, in the order they were added
+     */
+    public Item[] toItems() {
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[insertionIndex(i)] = new Item(name(i), sellIn[i], quality[i]);
+        }
+        return items;
+    }
+
+    /**
+     * Writes the current sellIn and quality values back into existing items, in the order
+     * the items were added, also after the rows have been sorted by category.
+     *
+     * @param items Items matching this inventory in insertion order
+     */
+    public void copyTo(Item[] items) {
+        if (items.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " items but got " + items.length);
+        }
+        for (int i = 0; i < size; i++) {
+            Item item = items[insertionIndex(i)];
+            item.sellIn = sellIn[i];
+            item.quality = quality[i];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String name(int index) {
+        return names.name(nameIds[index]);
+    }
+
+    public int sellIn(int index) {
+        return sellIn[index];
+    }
+
+    public int quality(int index) {
+        return quality[index];
+    }
+
+    public ItemCategory category(int index) {
+        return ItemCategory.fromCode(categories[index]);
+    }
+
+    public NameDictionary names() {
+        return names;
+    }
+
+    // Backing arrays, valid up to size(); exposed for update engines working on raw columns
+
+    public int[] nameIdColumn() {
+        return nameIds;
+    }
+
+    public int[] sellInColumn() {
+        return sellIn;
+    }
+
+    public int[] qualityColumn() {
+        return quality;
+    }
+
+    public byte[] categoryColumn() {
+        return categories;
+    }
+}
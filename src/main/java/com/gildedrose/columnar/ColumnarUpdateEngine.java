@@ -0,0 +1,37 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+
+/**
+ * Runs the daily update rules directly over the columns of a {@link ColumnarInventory},
+ * without materializing Item objects.
+ */
+public class ColumnarUpdateEngine {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    /**
+     * Updates the quality and sellIn values of every item in the inventory by one day.
+     *
+     * @param inventory The inventory to update
+     */
+    public void updateQuality(ColumnarInventory inventory) {
+        updateRange(inventory, 0, inventory.size());
+    }
+
+    /**
+     * Updates the items in the index range [from, to) by one day.
+     */
+    public void updateRange(ColumnarInventory inventory, int from, int to) {
+        int[] sellIn = inventory.sellInColumn();
+        int[] quality = inventory.qualityColumn();
+        byte[] categories = inventory.categoryColumn();
+
+        for (int i = from; i < to; i++) {
+            ItemCategory category = CATEGORIES[categories[i]];
+            int currentSellIn = sellIn[i];
+            quality[i] = category.nextQuality(currentSellIn, quality[i]);
+            sellIn[i] = category.nextSellIn(currentSellIn);
+        }
+    }
+}
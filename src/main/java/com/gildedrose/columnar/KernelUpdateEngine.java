@@ -0,0 +1,41 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+
+/**
+ * Updates a ColumnarInventory one category run at a time with a QualityKernel.
+ * The inventory is sorted by category on first use, which changes its row order;
+ * toItems() and copyTo() still return items in the order they were added.
+ */
+public class KernelUpdateEngine {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final QualityKernel kernel;
+
+    public KernelUpdateEngine() {
+        this(QualityKernels.best());
+    }
+
+    public KernelUpdateEngine(QualityKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * Updates the quality and sellIn values of every item in the inventory by one day.
+     *
+     * @param inventory The inventory to update; sorted by category if it is not already
+     */
+    public void updateQuality(ColumnarInventory inventory) {
+        inventory.sortByCategory();
+        int[] sellIn = inventory.sellInColumn();
+        int[] quality = inventory.qualityColumn();
+        for (ItemCategory category : CATEGORIES) {
+            kernel.update(category, sellIn, quality, inventory.categoryStart(category), inventory.categoryEnd(category));
+        }
+    }
+
+    public QualityKernel kernel() {
+        return kernel;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns item names into dense integer ids so that each distinct name is stored once.
+ * The category of every name is classified once, when the name is first interned.
+ */
+public class NameDictionary {
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private byte[] categories = new byte[16];
+
+    /**
+     * Returns the id of the given name, adding it to the dictionary if it is new.
+     *
+     * @param name The item name
+     * @return The id of the name
+     */
+    public int intern(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        int newId = names.size();
+        if (newId == categories.length) {
+            categories = Arrays.copyOf(categories, newId * 2);
+        }
+        categories[newId] = ItemCategory.of(name).code();
+        names.add(name);
+        idsByName.put(name, newId);
+        return newId;
+    }
+
+    /**
+     * @param name The item name
+     * @return The id of the name, or -1 if it has not been interned
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        return id != null ? id : -1;
+    }
+
+    public String name(int id) {
+        return names.get(id);
+    }
+
+    public byte categoryCode(int id) {
+        return categories[id];
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+
+/**
+ * Applies one day of updates to a run of items of a single category held in primitive columns.
+ */
+public interface QualityKernel {
+
+    /**
+     * Updates sellIn[i] and quality[i] for every i in [from, to).
+     *
+     * @param category The category of every item in the run
+     * @param sellIn   The sellIn column
+     * @param quality  The quality column
+     * @param from     Index of the first item, inclusive
+     * @param to       Index of the last item, exclusive
+     */
+    void update(ItemCategory category, int[] sellIn, int[] quality, int from, int to);
+}
@@ -0,0 +1,36 @@
+package com.gildedrose.columnar;
+
+/**
+ * Chooses the fastest available QualityKernel.
+ */
+public final class QualityKernels {
+
+    // Only present when built with the vector profile and run with --add-modules=jdk.incubator.vector
+    static final String VECTOR_KERNEL_CLASS = "com.gildedrose.columnar.VectorQualityKernel";
+
+    private QualityKernels() {
+    }
+
+    /**
+     * @return The SIMD kernel if it was compiled in and the Vector API is available, otherwise the scalar kernel
+     */
+    public static QualityKernel best() {
+        QualityKernel vector = vector();
+        return vector != null ? vector : scalar();
+    }
+
+    public static QualityKernel scalar() {
+        return new ScalarQualityKernel();
+    }
+
+    /**
+     * @return The SIMD kernel, or null if it is not available in this build or JVM
+     */
+    public static QualityKernel vector() {
+        try {
+            return (QualityKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
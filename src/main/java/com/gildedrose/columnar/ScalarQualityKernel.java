@@ -0,0 +1,23 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+
+/**
+ * Portable kernel applying the ItemCategory rules one item at a time.
+ * It is the reference the SIMD kernel is checked against, and the fallback where the
+ * Vector API is unavailable.
+ */
+public class ScalarQualityKernel implements QualityKernel {
+
+    @Override
+    public void update(ItemCategory category, int[] sellIn, int[] quality, int from, int to) {
+        if (category == ItemCategory.SULFURAS) {
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            int currentSellIn = sellIn[i];
+            quality[i] = category.nextQuality(currentSellIn, quality[i]);
+            sellIn[i] = currentSellIn - 1;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gildedrose.flow;
+
+import com.gildedrose.Item;
+
+/**
+ * An element of a continuous inventory feed: either an item joining the inventory,
+ * or a day tick telling the pipeline to run the daily update.
+ */
+public final class InventoryEvent {
+
+    private static final InventoryEvent TICK = new InventoryEvent(null);
+
+    private final Item item;
+
+    private InventoryEvent(Item item) {
+        this.item = item;
+    }
+
+    public static InventoryEvent item(Item item) {
+        if (item == null) {
+            throw new NullPointerException("item");
+        }
+        return new InventoryEvent(item);
+    }
+
+    public static InventoryEvent tick() {
+        return TICK;
+    }
+
+    public boolean isTick() {
+        return item == null;
+    }
+
+    /**
+     * @return The item carried by this event
+     * @throws IllegalStateException if this is a day tick
+     */
+    public Item item() {
+        if (item == null) {
+            throw new IllegalStateException("A day tick carries no item");
+        }
+        return item;
+    }
+
+    @Override
+    public String toString() {
+        return isTick() ? "tick" : "item " + item;
+    }
+}
@@ -0,0 +1,136 @@
+package com.gildedrose.flow;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Flow stage that keeps an inventory fed by a continuous stream of events and publishes the
+ * updated items after every day tick.
+ *
+ * Items received from upstream join the inventory. On a tick every item is updated with its
+ * strategy from ItemStrategyFactory and copies of the updated items are published downstream
+ * in batches. Upstream demand is requested one batch at a time, and publishing blocks while the
+ * buffer of the slowest subscriber is full, so a slow consumer holds back the producer and memory
+ * stays bounded by the buffer capacity and the inventory itself.
+ */
+public class InventoryUpdateProcessor extends SubmissionPublisher<List<Item>>
+        implements Flow.Processor<InventoryEvent, List<Item>> {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final int batchSize;
+
+    // Only touched by the upstream delivery thread, which calls onNext serially
+    private final List<Item> inventory = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private int outstanding;
+
+    private volatile int size;
+    private volatile long day;
+    private volatile int maxLag;
+
+    public InventoryUpdateProcessor() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param executor          Runs the downstream subscribers
+     * @param maxBufferCapacity Batches buffered per downstream subscriber before publishing blocks
+     * @param batchSize         Items per published batch, and events requested from upstream at a time
+     */
+    public InventoryUpdateProcessor(Executor executor, int maxBufferCapacity, int batchSize) {
+        super(executor, maxBufferCapacity);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        outstanding = batchSize;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(InventoryEvent event) {
+        if (event.isTick()) {
+            updateAndPublish();
+        } else {
+            inventory.add(event.item());
+            size = inventory.size();
+        }
+        if (--outstanding == 0) {
+            outstanding = batchSize;
+            subscription.request(batchSize);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close();
+    }
+
+    /**
+     * @return The number of items in the inventory
+     */
+    public int inventorySize() {
+        return size;
+    }
+
+    /**
+     * @return The number of day ticks processed
+     */
+    public long day() {
+        return day;
+    }
+
+    /**
+     * Unlike estimateMaximumLag(), this can be read from a subscriber while publishing is blocked.
+     *
+     * @return The largest number of batches seen buffered for any subscriber right after publishing
+     */
+    public int maxObservedLag() {
+        return maxLag;
+    }
+
+    private void updateAndPublish() {
+        List<Item> batch = new ArrayList<>(batchSize);
+        for (Item item : inventory) {
+            ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            batch.add(new Item(item.name, item.sellIn, item.quality));
+            if (batch.size() == batchSize) {
+                publish(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            publish(batch);
+        }
+        day++;
+    }
+
+    private void publish(List<Item> batch) {
+        int lag = submit(batch);
+        if (lag > maxLag) {
+            maxLag = lag;
+        }
+    }
+}
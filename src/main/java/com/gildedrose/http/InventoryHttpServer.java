@@ -0,0 +1,179 @@
+package com.gildedrose.http;
+
+import com.gildedrose.Item;
+import com.gildedrose.io.ItemTextFormat;
+import com.gildedrose.live.LiveInventory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Small embedded HTTP front end over a LiveInventory. All bodies use the
+ * "name, sellIn, quality" text format, one item per line.
+ * <pre>
+ * GET  /items         all items
+ * GET  /items/{name}  items with the given (URL-encoded) name, 404 if there are none
+ * POST /items         add the items in the request body; responds with their ids
+ * POST /update        run the daily update
+ * </pre>
+ * Requests are run on the given executor; {@link RequestExecutors#best()} gives one
+ * virtual thread per request on JDK 21 builds.
+ */
+public class InventoryHttpServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    // Pending connections the OS queues before the server accepts them
+    private static final int BACKLOG = 4_096;
+
+    private static final String ITEMS_PATH = "/items";
+    private static final String UPDATE_PATH = "/update";
+
+    private final LiveInventory inventory;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private InventoryHttpServer(LiveInventory inventory, HttpServer server, ExecutorService executor) {
+        this.inventory = inventory;
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts serving the inventory. Use port 0 to pick a free port.
+     *
+     * @param executor Runs the request handlers; shut down when the server is closed
+     */
+    public static InventoryHttpServer start(LiveInventory inventory, InetSocketAddress address, ExecutorService executor)
+            throws IOException {
+        HttpServer server = HttpServer.create(address, BACKLOG);
+        InventoryHttpServer inventoryServer = new InventoryHttpServer(inventory, server, executor);
+        server.createContext(ITEMS_PATH, inventoryServer::handleItems);
+        server.createContext(UPDATE_PATH, inventoryServer::handleUpdate);
+        server.setExecutor(executor);
+        server.start();
+        return inventoryServer;
+    }
+
+    /**
+     * Usage: InventoryHttpServer [port] [inventory-file]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        LiveInventory inventory = new LiveInventory();
+        if (args.length > 1) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+                addAll(inventory, reader);
+            }
+        }
+        InventoryHttpServer server = start(inventory, new InetSocketAddress(port), RequestExecutors.best());
+        System.out.println("Serving " + inventory.size() + " items on port " + server.port());
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handleItems(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (path.equals(ITEMS_PATH) || path.equals(ITEMS_PATH + "/")) {
+                if (method.equals("GET")) {
+                    respond(exchange, 200, format(inventory.snapshot()));
+                } else if (method.equals("POST")) {
+                    List<Long> ids = addAll(inventory, new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+                    StringBuilder body = new StringBuilder();
+                    for (long id : ids) {
+                        body.append(id).append('\n');
+                    }
+                    respond(exchange, 201, body.toString());
+                } else {
+                    respond(exchange, 405, "Method not allowed\n");
+                }
+                return;
+            }
+
+            if (!method.equals("GET")) {
+                respond(exchange, 405, "Method not allowed\n");
+                return;
+            }
+            String name = path.substring(ITEMS_PATH.length() + 1);
+            List<Item> matches = inventory.findByName(name);
+            if (matches.isEmpty()) {
+                respond(exchange, 404, "No item named " + name + "\n");
+            } else {
+                respond(exchange, 200, format(matches));
+            }
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage() + "\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleUpdate(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                respond(exchange, 405, "Method not allowed\n");
+                return;
+            }
+            inventory.updateQuality();
+            respond(exchange, 200, "Updated " + inventory.size() + " items\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static List<Long> addAll(LiveInventory inventory, Reader body) throws IOException {
+        BufferedReader reader = new BufferedReader(body);
+        List<Item> items = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (ItemTextFormat.isRecord(line)) {
+                items.add(ItemTextFormat.parse(line));
+            }
+        }
+        // Parse everything first so a malformed body adds nothing
+        List<Long> ids = new ArrayList<>(items.size());
+        for (Item item : items) {
+            ids.add(inventory.add(item.name, item.sellIn, item.quality));
+        }
+        return ids;
+    }
+
+    private static String format(List<Item> items) {
+        StringBuilder body = new StringBuilder();
+        for (Item item : items) {
+            body.append(ItemTextFormat.format(item)).append('\n');
+        }
+        return body.toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
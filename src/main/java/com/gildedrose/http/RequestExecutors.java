@@ -0,0 +1,54 @@
+package com.gildedrose.http;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Chooses the executor that runs HTTP requests.
+ */
+public final class RequestExecutors {
+
+    // Only present when built with the jdk21 profile
+    static final String VIRTUAL_THREAD_FACTORY_CLASS = "com.gildedrose.http.VirtualThreadExecutorFactory";
+
+    // Platform threads used when virtual threads are unavailable
+    public static final int FALLBACK_POOL_SIZE = 256;
+
+    private RequestExecutors() {
+    }
+
+    /**
+     * @return A virtual-thread-per-request executor on JDK 21 builds, otherwise a bounded platform thread pool
+     */
+    public static ExecutorService best() {
+        ExecutorService virtual = virtualThreadPerRequest();
+        return virtual != null ? virtual : Executors.newFixedThreadPool(FALLBACK_POOL_SIZE);
+    }
+
+    /**
+     * @return A new virtual-thread-per-request executor, or null if this build or JVM has no virtual threads
+     */
+    @SuppressWarnings("unchecked")
+    public static ExecutorService virtualThreadPerRequest() {
+        try {
+            Supplier<ExecutorService> factory = (Supplier<ExecutorService>) Class.forName(VIRTUAL_THREAD_FACTORY_CLASS)
+                    .getDeclaredConstructor().newInstance();
+            return factory.get();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if this build and JVM can run requests on virtual threads
+     */
+    public static boolean virtualThreadsAvailable() {
+        ExecutorService virtual = virtualThreadPerRequest();
+        if (virtual == null) {
+            return false;
+        }
+        virtual.shutdown();
+        return true;
+    }
+}
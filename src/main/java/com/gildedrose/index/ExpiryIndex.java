@@ -0,0 +1,256 @@
+package com.gildedrose.index;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.metrics.UpdateListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Bucketed priority index answering "what expires next" queries without scanning the inventory.
+ *
+ * Every item that ages is filed under its expiry day: the day on which its sellIn reaches 0,
+ * counted from when the index was built. Since each update lowers sellIn by exactly one, that day
+ * never changes, and moving the whole index forward by a day is a counter increment. The buckets
+ * are kept in day order, so a range query costs a lookup plus the number of items returned.
+ *
+ * Buckets whose expiry day has passed are folded into one set of expired items per category as
+ * the index advances, so the number of buckets is bounded by the spread of sellIn values still
+ * ahead rather than by the number of days run. Queries that reach below sellIn 0 filter the
+ * expired set, in time proportional to the number of expired items.
+ *
+ * The index must be advanced in step with the inventory. Register it with
+ * GildedRose.addUpdateListener and it advances at the end of every pass, including each day of
+ * GildedRose.advance(days); when updating the items by other means, call advance() or
+ * advance(days) instead. Sulfuras never ages and is not indexed. Items are tracked by identity;
+ * changing the sellIn of an indexed item by other means requires removing and re-adding it.
+ * Not thread-safe: query it from the thread running the updates.
+ */
+public class ExpiryIndex implements UpdateListener {
+
+    private final Map<ItemCategory, NavigableMap<Long, Set<Item>>> buckets = new EnumMap<>(ItemCategory.class);
+    private final Map<ItemCategory, Set<Item>> expired = new EnumMap<>(ItemCategory.class);
+    private final Map<Item, Long> expiryDays = new IdentityHashMap<>();
+    private long day;
+
+    public ExpiryIndex() {
+        for (ItemCategory category : ItemCategory.values()) {
+            if (category != ItemCategory.SULFURAS) {
+                buckets.put(category, new TreeMap<>());
+                expired.put(category, identitySet());
+            }
+        }
+    }
+
+    public static ExpiryIndex of(Item[] items) {
+        ExpiryIndex index = new ExpiryIndex();
+        for (Item item : items) {
+            index.add(item);
+        }
+        return index;
+    }
+
+    /**
+     * Indexes an item at its current sellIn.
+     *
+     * @return false if the item never expires or is already indexed
+     */
+    public boolean add(Item item) {
+        ItemCategory category = ItemCategory.of(item.name);
+        if (category == ItemCategory.SULFURAS || expiryDays.containsKey(item)) {
+            return false;
+        }
+        long expiryDay = day + item.sellIn;
+        expiryDays.put(item, expiryDay);
+        if (expiryDay < day) {
+            expired.get(category).add(item);
+        } else {
+            buckets.get(category).computeIfAbsent(expiryDay, d -> identitySet()).add(item);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the item was indexed
+     */
+    public boolean remove(Item item) {
+        Long expiryDay = expiryDays.remove(item);
+        if (expiryDay == null) {
+            return false;
+        }
+        ItemCategory category = ItemCategory.of(item.name);
+        if (expiryDay < day) {
+            expired.get(category).remove(item);
+            return true;
+        }
+        Map<Long, Set<Item>> categoryBuckets = buckets.get(category);
+        Set<Item> bucket = categoryBuckets.get(expiryDay);
+        bucket.remove(item);
+        if (bucket.isEmpty()) {
+            categoryBuckets.remove(expiryDay);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the index forward by one day, matching one updateQuality() pass.
+     */
+    public void advance() {
+        advance(1);
+    }
+
+    /**
+     * Moves the index forward by the given number of days.
+     */
+    public void advance(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative: " + days);
+        }
+        day += days;
+        for (Map.Entry<ItemCategory, NavigableMap<Long, Set<Item>>> entry : buckets.entrySet()) {
+            Map<Long, Set<Item>> passed = entry.getValue().headMap(day, false);
+            Set<Item> categoryExpired = expired.get(entry.getKey());
+            for (Set<Item> bucket : passed.values()) {
+                categoryExpired.addAll(bucket);
+            }
+            passed.clear();
+        }
+    }
+
+    @Override
+    public boolean needsItemTimings() {
+        return false;
+    }
+
+    /**
+     * Advances the index by one day at the end of every update pass it is registered for.
+     */
+    @Override
+    public void passFinished(long nanos) {
+        advance();
+    }
+
+    /**
+     * Items that pass their sell date within the given number of updates, that is items whose
+     * sellIn is currently between 0 and days - 1.
+     */
+    public List<Item> expiringWithin(int days) {
+        return withSellIn(0, days - 1);
+    }
+
+    /**
+     * Backstage passes that are not yet in the triple-increase window but will be
+     * within the given number of updates.
+     */
+    public List<Item> enteringTripleIncreaseWindow(int days) {
+        int threshold = ItemCategory.TRIPLE_INCREASE_THRESHOLD;
+        return withSellIn(ItemCategory.BACKSTAGE_PASS, threshold + 1, threshold + days);
+    }
+
+    /**
+     * @return Items of every indexed category whose sellIn lies in the inclusive range
+     */
+    public List<Item> withSellIn(int fromSellIn, int toSellIn) {
+        List<Item> matches = new ArrayList<>();
+        for (ItemCategory category : buckets.keySet()) {
+            collect(category, fromSellIn, toSellIn, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * @return Items of the given category whose sellIn lies in the inclusive range
+     */
+    public List<Item> withSellIn(ItemCategory category, int fromSellIn, int toSellIn) {
+        List<Item> matches = new ArrayList<>();
+        if (buckets.containsKey(category)) {
+            collect(category, fromSellIn, toSellIn, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * @return The number of indexed items whose sellIn lies in the inclusive range, in time
+     *         proportional to the number of occupied days in the range while it stays at or above 0
+     */
+    public int countWithSellIn(int fromSellIn, int toSellIn) {
+        int count = 0;
+        for (ItemCategory category : buckets.keySet()) {
+            for (Set<Item> bucket : bucketsWithSellIn(category, fromSellIn, toSellIn)) {
+                count += bucket.size();
+            }
+        }
+        if (fromSellIn < 0) {
+            List<Item> matches = new ArrayList<>();
+            for (ItemCategory category : expired.keySet()) {
+                collectExpired(category, fromSellIn, toSellIn, matches);
+            }
+            count += matches.size();
+        }
+        return count;
+    }
+
+    /**
+     * @return The sellIn the index holds for the item, or null if it is not indexed
+     */
+    public Integer sellIn(Item item) {
+        Long expiryDay = expiryDays.get(item);
+        return expiryDay == null ? null : Math.toIntExact(expiryDay - day);
+    }
+
+    public int size() {
+        return expiryDays.size();
+    }
+
+    // Number of days that still have a bucket of items not yet expired
+    int bucketCount() {
+        int count = 0;
+        for (Map<Long, Set<Item>> categoryBuckets : buckets.values()) {
+            count += categoryBuckets.size();
+        }
+        return count;
+    }
+
+    private void collect(ItemCategory category, int fromSellIn, int toSellIn, List<Item> matches) {
+        for (Set<Item> bucket : bucketsWithSellIn(category, fromSellIn, toSellIn)) {
+            matches.addAll(bucket);
+        }
+        collectExpired(category, fromSellIn, toSellIn, matches);
+    }
+
+    // Expired items have left the buckets, so each one is checked against its stored expiry day
+    private void collectExpired(ItemCategory category, int fromSellIn, int toSellIn, List<Item> matches) {
+        if (fromSellIn >= 0) {
+            return;
+        }
+        for (Item item : expired.get(category)) {
+            long sellIn = expiryDays.get(item) - day;
+            if (sellIn >= fromSellIn && sellIn <= toSellIn) {
+                matches.add(item);
+            }
+        }
+    }
+
+    // Buckets of items not yet expired whose sellIn lies in the inclusive range
+    private Collection<Set<Item>> bucketsWithSellIn(ItemCategory category, int fromSellIn, int toSellIn) {
+        long from = day + Math.max(fromSellIn, 0);
+        long to = day + toSellIn;
+        if (from > to) {
+            return Collections.emptyList();
+        }
+        return buckets.get(category).subMap(from, true, to, true).values();
+    }
+
+    private static Set<Item> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
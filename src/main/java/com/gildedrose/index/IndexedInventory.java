@@ -0,0 +1,152 @@
+package com.gildedrose.index;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inventory with secondary indexes kept alongside the items:
+ * - A hash index on the exact name
+ * - A prefix trie on the name, for lookups such as every "Conjured" item
+ * - One bucket per item category
+ *
+ * The daily update never changes a name, so the indexes stay valid across updateQuality();
+ * add and remove keep them in step with the inventory. Items are tracked by identity and
+ * must not be renamed while they are in the inventory. Not thread-safe.
+ */
+public class IndexedInventory {
+
+    private final List<Item> items = new ArrayList<>();
+    private final Map<Item, Integer> positions = new IdentityHashMap<>();
+    private final Map<String, Set<Item>> byName = new HashMap<>();
+    private final PrefixTrie<Item> byPrefix = new PrefixTrie<>();
+    private final Map<ItemCategory, Set<Item>> byCategory = new EnumMap<>(ItemCategory.class);
+
+    public IndexedInventory() {
+        for (ItemCategory category : ItemCategory.values()) {
+            byCategory.put(category, identitySet());
+        }
+    }
+
+    public static IndexedInventory of(Item[] items) {
+        IndexedInventory inventory = new IndexedInventory();
+        for (Item item : items) {
+            inventory.add(item);
+        }
+        return inventory;
+    }
+
+    /**
+     * Adds an item and indexes it.
+     *
+     * @throws IllegalArgumentException if this exact item object is already in the inventory
+     */
+    public void add(Item item) {
+        if (positions.containsKey(item)) {
+            throw new IllegalArgumentException("Item already in inventory: " + item);
+        }
+        positions.put(item, items.size());
+        items.add(item);
+        byName.computeIfAbsent(item.name, name -> identitySet()).add(item);
+        byPrefix.add(item.name, item);
+        byCategory.get(ItemCategory.of(item.name)).add(item);
+    }
+
+    /**
+     * Removes an item and drops it from every index. The last item takes its position.
+     *
+     * @return true if the item was in the inventory
+     */
+    public boolean remove(Item item) {
+        Integer position = positions.remove(item);
+        if (position == null) {
+            return false;
+        }
+        Item last = items.remove(items.size() - 1);
+        if (last != item) {
+            items.set(position, last);
+            positions.put(last, position);
+        }
+
+        Set<Item> named = byName.get(item.name);
+        named.remove(item);
+        if (named.isEmpty()) {
+            byName.remove(item.name);
+        }
+        byPrefix.remove(item.name, item);
+        byCategory.get(ItemCategory.of(item.name)).remove(item);
+        return true;
+    }
+
+    /**
+     * Updates the quality and sellIn values for all items, one category bucket at a time.
+     */
+    public void updateQuality() {
+        for (Map.Entry<ItemCategory, Set<Item>> bucket : byCategory.entrySet()) {
+            ItemUpdateStrategy strategy = ItemStrategyFactory.getStrategy(bucket.getKey());
+            for (Item item : bucket.getValue()) {
+                strategy.updateItem(item);
+            }
+        }
+    }
+
+    /**
+     * @return The items with exactly this name, found with a single hash lookup
+     */
+    public Set<Item> findByName(String name) {
+        Set<Item> named = byName.get(name);
+        return named == null ? Collections.emptySet() : Collections.unmodifiableSet(named);
+    }
+
+    /**
+     * @return The items whose name starts with the prefix
+     */
+    public List<Item> findByPrefix(String prefix) {
+        List<Item> matches = new ArrayList<>(byPrefix.countByPrefix(prefix));
+        byPrefix.forEachWithPrefix(prefix, matches::add);
+        return matches;
+    }
+
+    /**
+     * @return The number of items whose name starts with the prefix, in O(prefix length)
+     */
+    public int countByPrefix(String prefix) {
+        return byPrefix.countByPrefix(prefix);
+    }
+
+    /**
+     * @return The items of the given category
+     */
+    public Set<Item> findByCategory(ItemCategory category) {
+        return Collections.unmodifiableSet(byCategory.get(category));
+    }
+
+    public boolean contains(Item item) {
+        return positions.containsKey(item);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * @return The items in the inventory; order changes when items are removed
+     */
+    public List<Item> items() {
+        return Collections.unmodifiableList(items);
+    }
+
+    private static Set<Item> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
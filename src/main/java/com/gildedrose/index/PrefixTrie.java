@@ -0,0 +1,123 @@
+package com.gildedrose.index;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Character trie mapping names to the values stored under them.
+ * Each node keeps the number of values in its subtree, so counting the values under a
+ * prefix costs O(prefix length) and listing them costs O(prefix length + answer size).
+ * Values are compared by identity, so equal items stored separately are kept apart.
+ *
+ * @param <T> The type of the stored values
+ */
+public class PrefixTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Stores a value under the given name.
+     */
+    public void add(String name, T value) {
+        Node<T> node = root;
+        node.subtreeSize++;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.children.computeIfAbsent(name.charAt(i), c -> new Node<>());
+            node.subtreeSize++;
+        }
+        node.values().add(value);
+    }
+
+    /**
+     * Removes a value stored under the given name, pruning nodes that become empty.
+     *
+     * @return true if the value was present
+     */
+    public boolean remove(String name, T value) {
+        Node<T> node = find(name);
+        if (node == null || node.values == null || !node.values.remove(value)) {
+            return false;
+        }
+
+        node = root;
+        node.subtreeSize--;
+        for (int i = 0; i < name.length(); i++) {
+            Node<T> child = node.children.get(name.charAt(i));
+            if (--child.subtreeSize == 0) {
+                node.children.remove(name.charAt(i));
+                return true;
+            }
+            node = child;
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of values stored under names starting with the prefix
+     */
+    public int countByPrefix(String prefix) {
+        Node<T> node = find(prefix);
+        return node == null ? 0 : node.subtreeSize;
+    }
+
+    /**
+     * @return The values stored under exactly the given name
+     */
+    public Set<T> get(String name) {
+        Node<T> node = find(name);
+        return node == null || node.values == null ? Collections.emptySet() : Collections.unmodifiableSet(node.values);
+    }
+
+    /**
+     * Visits every value stored under a name starting with the prefix.
+     */
+    public void forEachWithPrefix(String prefix, Consumer<? super T> visitor) {
+        Node<T> start = find(prefix);
+        if (start == null) {
+            return;
+        }
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            if (node.values != null) {
+                node.values.forEach(visitor);
+            }
+            for (Node<T> child : node.children.values()) {
+                pending.push(child);
+            }
+        }
+    }
+
+    public int size() {
+        return root.subtreeSize;
+    }
+
+    private Node<T> find(String prefix) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static final class Node<T> {
+
+        final Map<Character, Node<T>> children = new HashMap<>(4);
+        Set<T> values;
+        int subtreeSize;
+
+        Set<T> values() {
+            if (values == null) {
+                values = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return values;
+        }
+    }
+}
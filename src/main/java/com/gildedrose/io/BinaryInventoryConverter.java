@@ -0,0 +1,81 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Converts between the "name, sellIn, quality" text format used by TexttestFixture
+ * and the binary inventory format.
+ */
+public final class BinaryInventoryConverter {
+
+    private BinaryInventoryConverter() {
+    }
+
+    /**
+     * Usage: BinaryInventoryConverter to-binary|to-text input-file output-file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BinaryInventoryConverter to-binary|to-text <input> <output>");
+            System.exit(2);
+        }
+        Path input = Paths.get(args[1]);
+        Path output = Paths.get(args[2]);
+        if (args[0].equals("to-binary")) {
+            try (Reader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                System.out.println("Wrote " + textToBinary(reader, output) + " items");
+            }
+        } else if (args[0].equals("to-text")) {
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                System.out.println("Wrote " + binaryToText(input, writer) + " items");
+            }
+        } else {
+            System.err.println("Unknown conversion: " + args[0]);
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Converts text records to a binary inventory file. Blank lines and column headers are skipped.
+     *
+     * @return The number of records written
+     */
+    public static int textToBinary(Reader input, Path output) throws IOException {
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        try (BinaryInventoryWriter writer = new BinaryInventoryWriter(output)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (ItemTextFormat.isRecord(line)) {
+                    Item item = ItemTextFormat.parse(line);
+                    writer.append(item.name, item.sellIn, item.quality);
+                }
+            }
+            return writer.recordCount();
+        }
+    }
+
+    /**
+     * Converts a binary inventory file to text records, one per line.
+     *
+     * @return The number of records written
+     */
+    public static int binaryToText(Path input, Writer output) throws IOException {
+        try (MappedInventory inventory = MappedInventory.openReadOnly(input)) {
+            for (int i = 0; i < inventory.size(); i++) {
+                output.write(ItemTextFormat.format(inventory.name(i), inventory.sellIn(i), inventory.quality(i)));
+                output.write(System.lineSeparator());
+            }
+            output.flush();
+            return inventory.size();
+        }
+    }
+}
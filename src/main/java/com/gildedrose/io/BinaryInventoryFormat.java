@@ -0,0 +1,42 @@
+package com.gildedrose.io;
+
+/**
+ * Layout of the binary inventory file.
+ * <pre>
+ * header      32 bytes  magic, version, record count, name count, dictionary offset, checksum, reserved
+ * records     12 bytes each, starting at HEADER_SIZE: name id, sellIn, quality (big-endian ints)
+ * dictionary  one entry per name id: unsigned short byte length followed by the UTF-8 bytes
+ * </pre>
+ * The dictionary comes after the records so files can be written in a single streaming pass.
+ * From version 2 the header holds a CRC32 of everything after it, so torn or corrupted files
+ * are detected when they are opened read-only. Version 1 files have no checksum: older files,
+ * and checksummed files that have since been updated in place.
+ */
+final class BinaryInventoryFormat {
+
+    static final int MAGIC = 0x4752494E; // "GRIN"
+    static final int VERSION = 2;
+    static final int UNCHECKED_VERSION = 1;
+
+    static final int HEADER_SIZE = 32;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int RECORD_COUNT_OFFSET = 8;
+    static final int NAME_COUNT_OFFSET = 12;
+    static final int DICTIONARY_OFFSET_OFFSET = 16;
+    static final int CHECKSUM_OFFSET = 24;
+
+    static final int RECORD_SIZE = 12;
+    static final int NAME_ID_FIELD = 0;
+    static final int SELL_IN_FIELD = 4;
+    static final int QUALITY_FIELD = 8;
+
+    static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private BinaryInventoryFormat() {
+    }
+
+    static long recordOffset(long index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,137 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.columnar.ColumnarInventory;
+import com.gildedrose.columnar.NameDictionary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static com.gildedrose.io.BinaryInventoryFormat.*;
+
+/**
+ * Writes items to a binary inventory file in a single streaming pass.
+ * Names are interned as records are appended; the dictionary, checksum and header are written on close.
+ */
+public class BinaryInventoryWriter implements AutoCloseable {
+
+    // Large enough to hold the longest possible dictionary entry
+    private static final int BUFFER_SIZE = 128 * 1024;
+
+    private final FileChannel channel;
+    private final NameDictionary names = new NameDictionary();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32 checksum = new CRC32();
+    private int recordCount;
+    private boolean closed;
+
+    public BinaryInventoryWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Writes all items of a columnar inventory to the given file.
+     */
+    public static void write(Path path, ColumnarInventory inventory) throws IOException {
+        try (BinaryInventoryWriter writer = new BinaryInventoryWriter(path)) {
+            for (int i = 0; i < inventory.size(); i++) {
+                writer.append(inventory.name(i), inventory.sellIn(i), inventory.quality(i));
+            }
+        }
+    }
+
+    /**
+     * Writes the given items to the given file.
+     */
+    public static void write(Path path, Item[] items) throws IOException {
+        try (BinaryInventoryWriter writer = new BinaryInventoryWriter(path)) {
+            for (Item item : items) {
+                writer.append(item.name, item.sellIn, item.quality);
+            }
+        }
+    }
+
+    /**
+     * Appends one record.
+     */
+    public void append(String name, int sellIn, int quality) throws IOException {
+        if (recordCount == Integer.MAX_VALUE) {
+            throw new IOException("Too many records for a binary inventory file");
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            flushBuffer();
+        }
+        buffer.putInt(names.intern(name));
+        buffer.putInt(sellIn);
+        buffer.putInt(quality);
+        recordCount++;
+    }
+
+    public int recordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushBuffer();
+            long dictionaryOffset = channel.position();
+            writeDictionary();
+            writeHeader(dictionaryOffset);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeDictionary() throws IOException {
+        for (int id = 0; id < names.size(); id++) {
+            byte[] bytes = names.name(id).getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_NAME_BYTES) {
+                throw new IOException("Item name too long for a binary inventory file: " + names.name(id));
+            }
+            if (buffer.remaining() < 2 + bytes.length) {
+                flushBuffer();
+            }
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+        flushBuffer();
+    }
+
+    private void writeHeader(long dictionaryOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(RECORD_COUNT_OFFSET, recordCount);
+        header.putInt(NAME_COUNT_OFFSET, names.size());
+        header.putLong(DICTIONARY_OFFSET_OFFSET, dictionaryOffset);
+        header.putInt(CHECKSUM_OFFSET, (int) checksum.getValue());
+        writeFully(header, 0);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+}
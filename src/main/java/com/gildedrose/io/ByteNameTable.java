@@ -0,0 +1,95 @@
+package com.gildedrose.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Open-addressing table from the UTF-8 bytes of a name to its single String instance.
+ * Lookups compare the bytes in place in the source buffer, so a name that has been seen
+ * before resolves without allocating.
+ */
+final class ByteNameTable {
+
+    private int[] hashes = new int[64];
+    private byte[][] keys = new byte[64][];
+    private String[] names = new String[64];
+    private int size;
+
+    /**
+     * @param buffer The buffer holding the name
+     * @param from   Absolute index of the first byte of the name
+     * @param to     Absolute index after the last byte of the name
+     * @param hash   The hash of the name bytes, as computed by {@link #hash}
+     * @return The interned name
+     */
+    String intern(ByteBuffer buffer, int from, int to, int hash) {
+        int mask = keys.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            byte[] key = keys[slot];
+            if (key == null) {
+                return insert(slot, buffer, from, to, hash);
+            }
+            if (hashes[slot] == hash && matches(key, buffer, from, to)) {
+                return names[slot];
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    static int hash(int hash, byte b) {
+        return 31 * hash + b;
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buffer, int from, int to) {
+        if (key.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buffer.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String insert(int slot, ByteBuffer buffer, int from, int to, int hash) {
+        byte[] key = new byte[to - from];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = buffer.get(from + i);
+        }
+        String name = new String(key, StandardCharsets.UTF_8);
+        hashes[slot] = hash;
+        keys[slot] = key;
+        names[slot] = name;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return name;
+    }
+
+    private void grow() {
+        int[] oldHashes = hashes;
+        byte[][] oldKeys = keys;
+        String[] oldNames = names;
+        int capacity = oldKeys.length * 2;
+        hashes = new int[capacity];
+        keys = new byte[capacity][];
+        names = new String[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = oldHashes[i];
+            keys[slot] = oldKeys[i];
+            names[slot] = oldNames[i];
+        }
+    }
+}
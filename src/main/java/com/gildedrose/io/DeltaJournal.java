@@ -0,0 +1,302 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.metrics.UpdateListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit log of every quality change made by the daily update, with periodic checkpoints.
+ *
+ * Registered as an update listener, the journal writes each pass as one day record: for every
+ * item whose quality changed, the distance to the previous changed item and the quality delta,
+ * both varint-encoded, followed by a 0 terminator. SellIn changes are not written because each
+ * category moves sellIn the same way every day. Every checkpointInterval days the journal writes
+ * the whole inventory as a binary inventory file and starts a new log segment, so replaying to
+ * any day reads at most one checkpoint and checkpointInterval days of deltas.
+ *
+ * Directory layout: checkpoint-DDDDDDDD.grin holds the state after day D, and segment-DDDDDDDD.log
+ * holds the days that follow it. A day that was only partly written is ignored on replay.
+ */
+public class DeltaJournal implements UpdateListener, AutoCloseable {
+
+    static final int SEGMENT_MAGIC = 0x4752444C; // "GRDL"
+    static final int SEGMENT_VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 16;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final Item[] items;
+    private final ItemCategory[] categories;
+    private final int checkpointInterval;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private FileChannel segment;
+    private int day;
+    private int previousIndex;
+
+    private DeltaJournal(Path directory, Item[] items, int checkpointInterval) {
+        this.directory = directory;
+        this.items = items;
+        this.checkpointInterval = checkpointInterval;
+        this.categories = new ItemCategory[items.length];
+        for (int i = 0; i < items.length; i++) {
+            categories[i] = ItemCategory.of(items[i].name);
+        }
+    }
+
+    /**
+     * Starts a journal for the given items, writing their current state as the day 0 checkpoint.
+     * The journal must then be registered with the GildedRose instance that owns the items.
+     *
+     * @param directory          Directory for checkpoints and segments, created if missing
+     * @param items              The inventory being updated
+     * @param checkpointInterval Number of days between checkpoints
+     */
+    public static DeltaJournal create(Path directory, Item[] items, int checkpointInterval) throws IOException {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("checkpointInterval must be positive: " + checkpointInterval);
+        }
+        Files.createDirectories(directory);
+        DeltaJournal journal = new DeltaJournal(directory, items, checkpointInterval);
+        journal.checkpoint();
+        return journal;
+    }
+
+    /**
+     * Rebuilds the inventory as it was after the given day.
+     *
+     * @throws IllegalArgumentException if the journal does not reach that day
+     */
+    public static Item[] replay(Path directory, int day) throws IOException {
+        if (day < 0) {
+            throw new IllegalArgumentException("day must not be negative: " + day);
+        }
+        int checkpointDay = latestCheckpoint(directory, day);
+        Item[] items = readCheckpoint(checkpointPath(directory, checkpointDay));
+        if (day == checkpointDay) {
+            return items;
+        }
+
+        ItemCategory[] categories = new ItemCategory[items.length];
+        for (int i = 0; i < items.length; i++) {
+            categories[i] = ItemCategory.of(items[i].name);
+        }
+        ByteBuffer log = mapSegment(segmentPath(directory, checkpointDay), checkpointDay, items.length);
+        int current = checkpointDay;
+        while (current < day) {
+            int start = log.position();
+            if (!skipDay(log, items.length)) {
+                throw new IllegalArgumentException("Journal in " + directory + " only reaches day " + current);
+            }
+            log.position(start);
+            applyDay(log, items, categories);
+            current++;
+        }
+        return items;
+    }
+
+    /**
+     * @return The last day the journal can be replayed to
+     */
+    public static int latestDay(Path directory) throws IOException {
+        int checkpointDay = latestCheckpoint(directory, Integer.MAX_VALUE);
+        Path segmentPath = segmentPath(directory, checkpointDay);
+        if (!Files.exists(segmentPath)) {
+            return checkpointDay;
+        }
+        int itemCount;
+        try (MappedInventory checkpoint = MappedInventory.openReadOnly(checkpointPath(directory, checkpointDay))) {
+            itemCount = checkpoint.size();
+        }
+        ByteBuffer log = mapSegment(segmentPath, checkpointDay, itemCount);
+        int day = checkpointDay;
+        while (skipDay(log, itemCount)) {
+            day++;
+        }
+        return day;
+    }
+
+    /**
+     * @return The number of days written so far
+     */
+    public int day() {
+        return day;
+    }
+
+    @Override
+    public boolean needsItemTimings() {
+        return false;
+    }
+
+    @Override
+    public void passStarted(int itemCount) {
+        if (itemCount != items.length) {
+            throw new IllegalStateException("Journal covers " + items.length + " items, pass has " + itemCount);
+        }
+        previousIndex = -1;
+    }
+
+    @Override
+    public void itemUpdated(int index, Item item, ItemCategory category, int previousSellIn, int previousQuality, long nanos) {
+        if (item.sellIn != category.nextSellIn(previousSellIn)) {
+            throw new IllegalStateException("SellIn of " + item + " did not move as its category implies");
+        }
+        if (item.quality == previousQuality) {
+            return;
+        }
+        ensureCapacity(2 * Varint.MAX_BYTES);
+        Varint.putUnsigned(buffer, index - previousIndex);
+        Varint.putSigned(buffer, (long) item.quality - previousQuality);
+        previousIndex = index;
+    }
+
+    @Override
+    public void passFinished(long nanos) {
+        ensureCapacity(1);
+        buffer.put((byte) 0);
+        day++;
+        try {
+            flushBuffer();
+            if (day % checkpointInterval == 0) {
+                checkpoint();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes buffered days and closes the current segment.
+     */
+    @Override
+    public void close() throws IOException {
+        if (segment == null) {
+            return;
+        }
+        try {
+            flushBuffer();
+            segment.force(false);
+        } finally {
+            segment.close();
+            segment = null;
+        }
+    }
+
+    private void checkpoint() throws IOException {
+        close();
+        BinaryInventoryWriter.write(checkpointPath(directory, day), items);
+        segment = FileChannel.open(segmentPath(directory, day), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(SEGMENT_MAGIC);
+        buffer.putInt(SEGMENT_VERSION);
+        buffer.putInt(day);
+        buffer.putInt(items.length);
+        flushBuffer();
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void applyDay(ByteBuffer log, Item[] items, ItemCategory[] categories) {
+        for (int i = 0; i < items.length; i++) {
+            items[i].sellIn = categories[i].nextSellIn(items[i].sellIn);
+        }
+        int index = -1;
+        for (long gap = Varint.getUnsigned(log); gap != 0; gap = Varint.getUnsigned(log)) {
+            index += (int) gap;
+            items[index].quality += (int) Varint.getSigned(log);
+        }
+    }
+
+    /**
+     * Moves past one complete day record.
+     *
+     * @return false, leaving the position undefined, if the log ends before the day is complete
+     */
+    private static boolean skipDay(ByteBuffer log, int itemCount) {
+        try {
+            long index = -1;
+            for (long gap = Varint.getUnsigned(log); gap != 0; gap = Varint.getUnsigned(log)) {
+                index += gap;
+                Varint.getSigned(log);
+                if (index >= itemCount) {
+                    throw new IllegalStateException("Corrupt journal: item index " + index + " out of range");
+                }
+            }
+            return true;
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    private static int latestCheckpoint(Path directory, int atMost) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.matches("checkpoint-\\d{8}\\.grin"))
+                    .mapToInt(name -> Integer.parseInt(name.substring("checkpoint-".length(), name.length() - ".grin".length())))
+                    .filter(checkpointDay -> checkpointDay <= atMost)
+                    .max()
+                    .orElseThrow(() -> new IOException("No journal checkpoint in " + directory));
+        }
+    }
+
+    private static Item[] readCheckpoint(Path path) throws IOException {
+        try (MappedInventory checkpoint = MappedInventory.openReadOnly(path)) {
+            Item[] items = new Item[checkpoint.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = new Item(checkpoint.name(i), checkpoint.sellIn(i), checkpoint.quality(i));
+            }
+            return items;
+        }
+    }
+
+    private static ByteBuffer mapSegment(Path path, int checkpointDay, int itemCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (log.remaining() < SEGMENT_HEADER_SIZE || log.getInt() != SEGMENT_MAGIC) {
+                throw new IOException("Not a journal segment: " + path);
+            }
+            if (log.getInt() != SEGMENT_VERSION) {
+                throw new IOException("Unsupported journal segment version: " + path);
+            }
+            if (log.getInt() != checkpointDay || log.getInt() != itemCount) {
+                throw new IOException("Journal segment does not match its checkpoint: " + path);
+            }
+            return log;
+        }
+    }
+
+    private static Path checkpointPath(Path directory, int day) {
+        return directory.resolve(String.format("checkpoint-%08d.grin", day));
+    }
+
+    private static Path segmentPath(Path directory, int day) {
+        return directory.resolve(String.format("segment-%08d.log", day));
+    }
+}
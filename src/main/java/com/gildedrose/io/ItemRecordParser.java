@@ -0,0 +1,184 @@
+package com.gildedrose.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Parses "name, sellIn, quality" records straight from bytes without allocating per record.
+ *
+ * Numbers are decoded digit by digit and names are resolved against a table keyed by their
+ * UTF-8 bytes, so each distinct name becomes a String only the first time it is seen. Parsed
+ * records fill the reusable items of an ItemBatch. The format is the one read by ItemTextFormat:
+ * the numeric fields are found from the end of the line, blank lines and the column header are
+ * skipped, and a trailing carriage return is ignored.
+ */
+public class ItemRecordParser {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final byte[] HEADER = ItemTextFormat.HEADER.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ItemTextFormat.SEPARATOR.getBytes(StandardCharsets.UTF_8);
+
+    private final ByteNameTable names = new ByteNameTable();
+
+    // Start of the sellIn separator, left by parseNumber for the caller
+    private int numberStart;
+
+    /**
+     * Parses complete lines from the buffer into the batch until the batch is full or only an
+     * incomplete line is left. The buffer position is moved past every line consumed.
+     *
+     * @return The number of records added to the batch
+     * @throws IllegalArgumentException if a line is not a valid record
+     */
+    public int parse(ByteBuffer in, ItemBatch batch) {
+        int added = 0;
+        while (!batch.isFull()) {
+            int start = in.position();
+            int newline = indexOfNewline(in, start, in.limit());
+            if (newline < 0) {
+                break;
+            }
+            if (parseLine(in, start, newline, batch)) {
+                added++;
+            }
+            in.position(newline + 1);
+        }
+        return added;
+    }
+
+    /**
+     * Reads every record from the channel, handing each full batch to the sink. The same batch
+     * and items are reused for every call, and the last call may pass a partly filled batch.
+     *
+     * @return The number of records read
+     * @throws IOException if reading fails or a line is longer than the read buffer
+     */
+    public long ingest(ReadableByteChannel channel, Consumer<ItemBatch> sink) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+        ItemBatch batch = new ItemBatch(DEFAULT_BATCH_SIZE);
+        long records = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(buffer) < 0;
+            buffer.flip();
+            while (true) {
+                records += parse(buffer, batch);
+                if (!batch.isFull()) {
+                    break;
+                }
+                sink.accept(batch);
+                batch.clear();
+            }
+            if (endOfInput && buffer.hasRemaining()) {
+                // Last line without a line break
+                if (parseLine(buffer, buffer.position(), buffer.limit(), batch)) {
+                    records++;
+                }
+                buffer.position(buffer.limit());
+            }
+            if (!endOfInput && buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+                throw new IOException("Item record longer than " + buffer.capacity() + " bytes");
+            }
+            buffer.compact();
+        }
+        if (batch.size() > 0) {
+            sink.accept(batch);
+        }
+        return records;
+    }
+
+    /**
+     * @return The number of distinct names seen so far
+     */
+    public int distinctNames() {
+        return names.size();
+    }
+
+    private boolean parseLine(ByteBuffer in, int start, int end, ItemBatch batch) {
+        if (end > start && in.get(end - 1) == '\r') {
+            end--;
+        }
+        if (end == start || isHeader(in, start, end)) {
+            return false;
+        }
+
+        int quality = parseNumber(in, start, end, end);
+        int qualitySeparator = numberStart;
+        int sellIn = parseNumber(in, start, end, qualitySeparator);
+        int nameEnd = numberStart;
+
+        int hash = 0;
+        for (int i = start; i < nameEnd; i++) {
+            hash = ByteNameTable.hash(hash, in.get(i));
+        }
+        batch.add(names.intern(in, start, nameEnd, hash), sellIn, quality);
+        return true;
+    }
+
+    /**
+     * Decodes the number ending at end, which must be preceded by the field separator,
+     * and leaves the index of that separator in numberStart.
+     */
+    private int parseNumber(ByteBuffer in, int lineStart, int lineEnd, int end) {
+        long value = 0;
+        long place = 1;
+        int i = end - 1;
+        while (i >= lineStart && isDigit(in.get(i)) && place <= 1_000_000_000L) {
+            value += (in.get(i) - '0') * place;
+            place *= 10;
+            i--;
+        }
+        if (i == end - 1) {
+            throw malformed(in, lineStart, lineEnd);
+        }
+        if (i >= lineStart && in.get(i) == '-') {
+            value = -value;
+            i--;
+        }
+        int separator = i - SEPARATOR.length + 1;
+        if (separator < lineStart || !regionMatches(in, separator, SEPARATOR) || value != (int) value) {
+            throw malformed(in, lineStart, lineEnd);
+        }
+        numberStart = separator;
+        return (int) value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isHeader(ByteBuffer in, int start, int end) {
+        return end - start == HEADER.length && regionMatches(in, start, HEADER);
+    }
+
+    private static boolean regionMatches(ByteBuffer in, int from, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (in.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOfNewline(ByteBuffer in, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (in.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static IllegalArgumentException malformed(ByteBuffer in, int start, int end) {
+        byte[] line = new byte[Math.max(end - start, 0)];
+        for (int i = 0; i < line.length; i++) {
+            line[i] = in.get(start + i);
+        }
+        return new IllegalArgumentException("Malformed item record: " + new String(line, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+
+/**
+ * Reads and writes items in the "name, sellIn, quality" text format printed by Item.toString().
+ * Names may themselves contain ", " (as in "Sulfuras, Hand of Ragnaros"), so the numeric
+ * fields are located from the end of the line.
+ */
+public final class ItemTextFormat {
+
+    public static final String HEADER = "name, sellIn, quality";
+    public static final String SEPARATOR = ", ";
+
+    private ItemTextFormat() {
+    }
+
+    /**
+     * @param line A line of text
+     * @return true if the line holds an item record rather than a blank line or the column header
+     */
+    public static boolean isRecord(String line) {
+        return !line.isEmpty() && !line.equals(HEADER);
+    }
+
+    /**
+     * Parses a single item record.
+     *
+     * @param line A line in the "name, sellIn, quality" format
+     * @return The parsed item
+     * @throws IllegalArgumentException if the line is not a valid record
+     */
+    public static Item parse(String line) {
+        int qualitySeparator = line.lastIndexOf(SEPARATOR);
+        int sellInSeparator = qualitySeparator > 0 ? line.lastIndexOf(SEPARATOR, qualitySeparator - 1) : -1;
+        if (sellInSeparator < 0) {
+            throw new IllegalArgumentException("Malformed item record: " + line);
+        }
+
+        try {
+            String name = line.substring(0, sellInSeparator);
+            int sellIn = Integer.parseInt(line.substring(sellInSeparator + SEPARATOR.length(), qualitySeparator));
+            int quality = Integer.parseInt(line.substring(qualitySeparator + SEPARATOR.length()));
+            return new Item(name, sellIn, quality);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed item record: " + line, e);
+        }
+    }
+
+    /**
+     * @param item The item to format
+     * @return The item as a "name, sellIn, quality" record
+     */
+    public static String format(Item item) {
+        return item.toString();
+    }
+
+    /**
+     * @return The given values as a "name, sellIn, quality" record, identical to Item.toString()
+     */
+    public static String format(String name, int sellIn, int quality) {
+        return name + SEPARATOR + sellIn + SEPARATOR + quality;
+    }
+}
@@ -0,0 +1,255 @@
+package com.gildedrose.io;
+
+import com.gildedrose.ItemCategory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static com.gildedrose.io.BinaryInventoryFormat.*;
+
+/**
+ * A binary inventory file mapped into memory. The daily update runs directly on the
+ * mapped records: for each record only the 8 bytes holding sellIn and quality are rewritten,
+ * and nothing is copied onto the Java heap apart from the name dictionary.
+ * Files larger than 2 GB are mapped as several segments.
+ *
+ * The checksum describes the file as it was written, so it is only verified by {@link #openReadOnly(Path)}.
+ * Recomputing it would mean reading the whole file on every force(); instead the first in-place change
+ * marks a checksummed file as unchecked (version 1), which keeps it readable after a crash.
+ */
+public class MappedInventory implements AutoCloseable {
+
+    // Records per mapped segment; keeps each mapping well below the 2 GB buffer limit
+    private static final int SEGMENT_RECORDS = 1 << 26;
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final String[] names;
+    private final byte[] categories;
+    private final int recordCount;
+    private final ByteBuffer dictionary;
+    private final boolean writable;
+    private boolean checksummed;
+
+    private MappedInventory(FileChannel channel, MappedByteBuffer[] segments, ByteBuffer dictionary, int nameCount,
+                            int recordCount, boolean writable, boolean checksummed) {
+        this.channel = channel;
+        this.segments = segments;
+        this.dictionary = dictionary;
+        this.names = readNames(dictionary.duplicate(), nameCount);
+        this.recordCount = recordCount;
+        this.writable = writable;
+        this.checksummed = checksummed;
+        this.categories = new byte[names.length];
+        for (int id = 0; id < names.length; id++) {
+            categories[id] = ItemCategory.of(names[id]).code();
+        }
+    }
+
+    /**
+     * Maps an existing binary inventory file for reading and in-place updates.
+     *
+     * @param path A file written by {@link BinaryInventoryWriter}
+     * @return The mapped inventory
+     * @throws IOException if the file cannot be read or is not a valid inventory file
+     */
+    public static MappedInventory open(Path path) throws IOException {
+        return open(path, true);
+    }
+
+    /**
+     * Maps an existing binary inventory file for reading only, verifying its checksum.
+     * Works on read-only files and media; the update methods throw ReadOnlyBufferException.
+     *
+     * @param path A file written by {@link BinaryInventoryWriter}
+     * @return The mapped inventory
+     * @throws IOException if the file cannot be read, is not a valid inventory file, or fails its checksum
+     */
+    public static MappedInventory openReadOnly(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    private static MappedInventory open(Path path, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Not a binary inventory file: " + path);
+            }
+            int version = header.getInt(VERSION_OFFSET);
+            if (version != VERSION && version != UNCHECKED_VERSION) {
+                throw new IOException("Unsupported binary inventory version " + header.getInt(VERSION_OFFSET) + ": " + path);
+            }
+            int recordCount = header.getInt(RECORD_COUNT_OFFSET);
+            int nameCount = header.getInt(NAME_COUNT_OFFSET);
+            long dictionaryOffset = header.getLong(DICTIONARY_OFFSET_OFFSET);
+            if (dictionaryOffset != recordOffset(recordCount) || dictionaryOffset > channel.size()) {
+                throw new IOException("Corrupt binary inventory header: " + path);
+            }
+
+            ByteBuffer dictionary = readFully(channel, dictionaryOffset, (int) (channel.size() - dictionaryOffset));
+            MappedByteBuffer[] segments = mapRecords(channel, recordCount, writable);
+            if (!writable && version == VERSION && header.getInt(CHECKSUM_OFFSET) != checksum(segments, dictionary)) {
+                throw new IOException("Checksum mismatch, the file is torn or corrupt: " + path);
+            }
+            return new MappedInventory(channel, segments, dictionary, nameCount, recordCount, writable, version == VERSION);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static String[] readNames(ByteBuffer dictionary, int nameCount) {
+        String[] names = new String[nameCount];
+        for (int id = 0; id < nameCount; id++) {
+            int length = Short.toUnsignedInt(dictionary.getShort());
+            byte[] bytes = new byte[length];
+            dictionary.get(bytes);
+            names[id] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    private static int checksum(MappedByteBuffer[] segments, ByteBuffer dictionary) {
+        CRC32 checksum = new CRC32();
+        for (MappedByteBuffer segment : segments) {
+            checksum.update(segment.duplicate().clear());
+        }
+        checksum.update(dictionary.duplicate());
+        return (int) checksum.getValue();
+    }
+
+    private static MappedByteBuffer[] mapRecords(FileChannel channel, int recordCount, boolean writable)
+            throws IOException {
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        int segmentCount = Math.max(1, (recordCount + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS);
+        MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+        for (int segment = 0; segment < segmentCount; segment++) {
+            long firstRecord = (long) segment * SEGMENT_RECORDS;
+            long records = Math.min(SEGMENT_RECORDS, recordCount - firstRecord);
+            segments[segment] = channel.map(mode, recordOffset(firstRecord), records * RECORD_SIZE);
+        }
+        return segments;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of binary inventory file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Applies one day of updates to every record, in place.
+     */
+    public void updateQuality() {
+        prepareWrite();
+        for (int segment = 0; segment < segments.length; segment++) {
+            MappedByteBuffer records = segments[segment];
+            int limit = records.limit();
+            for (int offset = 0; offset < limit; offset += RECORD_SIZE) {
+                ItemCategory category = CATEGORIES[categories[records.getInt(offset + NAME_ID_FIELD)]];
+                int sellIn = records.getInt(offset + SELL_IN_FIELD);
+                int quality = records.getInt(offset + QUALITY_FIELD);
+                records.putInt(offset + QUALITY_FIELD, category.nextQuality(sellIn, quality));
+                records.putInt(offset + SELL_IN_FIELD, category.nextSellIn(sellIn));
+            }
+        }
+    }
+
+    /**
+     * Forces pending changes out to the storage device.
+     */
+    public void force() throws IOException {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        channel.force(false);
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public int nameId(int index) {
+        return segment(index).getInt(offsetInSegment(index) + NAME_ID_FIELD);
+    }
+
+    public String name(int index) {
+        return names[nameId(index)];
+    }
+
+    public ItemCategory category(int index) {
+        return CATEGORIES[categories[nameId(index)]];
+    }
+
+    public int sellIn(int index) {
+        return segment(index).getInt(offsetInSegment(index) + SELL_IN_FIELD);
+    }
+
+    public int quality(int index) {
+        return segment(index).getInt(offsetInSegment(index) + QUALITY_FIELD);
+    }
+
+    public void set(int index, int sellIn, int quality) {
+        MappedByteBuffer records = segment(index);
+        int offset = offsetInSegment(index);
+        prepareWrite();
+        records.putInt(offset + SELL_IN_FIELD, sellIn);
+        records.putInt(offset + QUALITY_FIELD, quality);
+    }
+
+    private MappedByteBuffer segment(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        return segments[index / SEGMENT_RECORDS];
+    }
+
+    private static int offsetInSegment(int index) {
+        return (index % SEGMENT_RECORDS) * RECORD_SIZE;
+    }
+
+    // The stored checksum no longer matches once a record changes, so the file is marked unchecked first
+    private void prepareWrite() {
+        if (!writable) {
+            throw new ReadOnlyBufferException();
+        }
+        if (!checksummed) {
+            return;
+        }
+        ByteBuffer version = ByteBuffer.allocate(4).putInt(0, UNCHECKED_VERSION);
+        try {
+            while (version.hasRemaining()) {
+                channel.write(version, VERSION_OFFSET + version.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        checksummed = false;
+    }
+
+    /**
+     * Closes the file channel. The mapping itself is released when it is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,48 @@
+package com.gildedrose.io;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * LEB128 variable-length integers: 7 bits per byte, low groups first, high bit set on every
+ * byte but the last. Signed values are zigzag-encoded first so small negatives stay short.
+ */
+final class Varint {
+
+    static final int MAX_BYTES = 10;
+
+    private Varint() {
+    }
+
+    static void putUnsigned(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static void putSigned(ByteBuffer buffer, long value) {
+        putUnsigned(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * @throws BufferUnderflowException if the buffer ends inside the value
+     */
+    static long getUnsigned(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    static long getSigned(ByteBuffer buffer) {
+        long encoded = getUnsigned(buffer);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+}
@@ -0,0 +1,214 @@
+package com.gildedrose.live;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Thread-safe inventory that can be queried and modified while the daily update runs.
+ *
+ * Each item keeps its sellIn and quality packed into a single long that is only changed
+ * with compare-and-set, so single-item reads never take a lock and never see a torn state.
+ * Inserts, removals, single-item writes and the daily tick share a read lock and run
+ * concurrently. {@link #snapshot()} takes the write lock, so it sees every item at the same day;
+ * while it waits for a running tick and while it copies, inserts, removals and writes wait too,
+ * so writers can stall for up to a full tick whenever a snapshot is requested. Lock-free reads
+ * are never blocked. An item inserted while a tick is running may or may not be aged by that tick.
+ *
+ * The daily rules come from ItemCategory, which mirrors the strategies GildedRose uses exactly.
+ * The inventory does not wrap a GildedRose: its Item objects cannot be changed atomically, and
+ * GildedRose update listeners are not notified of ticks here.
+ */
+public class LiveInventory {
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final ReentrantLock tickLock = new ReentrantLock();
+
+    /**
+     * Creates an inventory holding copies of the given items, with ids 0 to items.length - 1.
+     */
+    public static LiveInventory of(Item[] items) {
+        LiveInventory inventory = new LiveInventory();
+        for (Item item : items) {
+            inventory.add(item.name, item.sellIn, item.quality);
+        }
+        return inventory;
+    }
+
+    /**
+     * Adds an item.
+     *
+     * @return The id of the new item
+     */
+    public long add(String name, int sellIn, int quality) {
+        Slot slot = new Slot(name, ItemCategory.of(name), pack(sellIn, quality));
+        snapshotLock.readLock().lock();
+        try {
+            long id = nextId.getAndIncrement();
+            slots.put(id, slot);
+            return id;
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an item, for example when it is sold.
+     *
+     * @return true if the item existed
+     */
+    public boolean remove(long id) {
+        snapshotLock.readLock().lock();
+        try {
+            return slots.remove(id) != null;
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a single item without locking.
+     *
+     * @return A copy of the item's current state, or null if there is no such item
+     */
+    public Item get(long id) {
+        Slot slot = slots.get(id);
+        if (slot == null) {
+            return null;
+        }
+        long state = slot.state.get();
+        return new Item(slot.name, sellIn(state), quality(state));
+    }
+
+    /**
+     * Reads all items with the given name without locking.
+     *
+     * @return Copies of the matching items, in no particular order
+     */
+    public List<Item> findByName(String name) {
+        List<Item> matches = new ArrayList<>();
+        for (Slot slot : slots.values()) {
+            if (slot.name.equals(name)) {
+                long state = slot.state.get();
+                matches.add(new Item(slot.name, sellIn(state), quality(state)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Atomically changes the quality of a single item by the given amount, clamped to 0..50.
+     * Sulfuras never changes.
+     *
+     * @return false if there is no such item
+     */
+    public boolean adjustQuality(long id, int delta) {
+        snapshotLock.readLock().lock();
+        try {
+            Slot slot = slots.get(id);
+            if (slot == null) {
+                return false;
+            }
+            if (slot.category == ItemCategory.SULFURAS) {
+                return true;
+            }
+            long current;
+            int adjusted;
+            do {
+                current = slot.state.get();
+                adjusted = (int) Math.max(0, Math.min(ItemCategory.MAX_QUALITY, (long) quality(current) + delta));
+            } while (!slot.state.compareAndSet(current, pack(sellIn(current), adjusted)));
+            return true;
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies one day of updates to every item. Only one tick runs at a time; single-item reads
+     * and writes run alongside it unless a snapshot is waiting for it to finish.
+     */
+    public void updateQuality() {
+        tickLock.lock();
+        snapshotLock.readLock().lock();
+        try {
+            for (Slot slot : slots.values()) {
+                long current;
+                long next;
+                do {
+                    current = slot.state.get();
+                    int sellIn = sellIn(current);
+                    next = pack(slot.category.nextSellIn(sellIn), slot.category.nextQuality(sellIn, quality(current)));
+                } while (!slot.state.compareAndSet(current, next));
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+            tickLock.unlock();
+        }
+    }
+
+    /**
+     * Returns copies of all items as of a single point in time: no tick, insert, removal
+     * or write is in progress while the copy is taken.
+     */
+    public List<Item> snapshot() {
+        List<Item> items = new ArrayList<>(slots.size());
+        forEachConsistent((id, item) -> items.add(item));
+        return items;
+    }
+
+    /**
+     * Visits copies of all items, with their ids, as of a single point in time.
+     */
+    public void forEachConsistent(BiConsumer<Long, Item> visitor) {
+        snapshotLock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Slot> entry : slots.entrySet()) {
+                Slot slot = entry.getValue();
+                long state = slot.state.get();
+                visitor.accept(entry.getKey(), new Item(slot.name, sellIn(state), quality(state)));
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    static long pack(int sellIn, int quality) {
+        return ((long) sellIn << 32) | (quality & 0xFFFFFFFFL);
+    }
+
+    static int sellIn(long state) {
+        return (int) (state >> 32);
+    }
+
+    static int quality(long state) {
+        return (int) state;
+    }
+
+    private static final class Slot {
+
+        final String name;
+        final ItemCategory category;
+        final AtomicLong state;
+
+        Slot(String name, ItemCategory category, long state) {
+            this.name = name;
+            this.category = category;
+            this.state = new AtomicLong(state);
+        }
+    }
+}
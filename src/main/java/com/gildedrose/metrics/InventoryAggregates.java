@@ -0,0 +1,149 @@
+package com.gildedrose.metrics;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Report totals kept up to date from the update pass instead of by scanning the inventory:
+ * item count, sum of quality, items at the maximum quality of 50 and items past their sell date,
+ * each per category. The totals are computed once from the items, then every updated item
+ * adjusts them by the difference between its previous and new values, so reading a total is O(1).
+ *
+ * In verifying mode each pass ends with a full recomputation, and an IllegalStateException is
+ * thrown if it disagrees with the incremental totals. Totals read from other threads while a
+ * pass is running may mix values from before and after the update of some items.
+ */
+public class InventoryAggregates implements UpdateListener {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final Item[] items;
+    private final boolean verifying;
+    private final AtomicLongArray itemCounts = new AtomicLongArray(CATEGORIES.length);
+    private final AtomicLongArray totalQualities = new AtomicLongArray(CATEGORIES.length);
+    private final AtomicLongArray maxQualityCounts = new AtomicLongArray(CATEGORIES.length);
+    private final AtomicLongArray expiredCounts = new AtomicLongArray(CATEGORIES.length);
+
+    /**
+     * @param items     The inventory the aggregates describe; register the aggregates with its GildedRose
+     * @param verifying Whether to cross-check the totals against a full scan after every pass
+     */
+    public InventoryAggregates(Item[] items, boolean verifying) {
+        this.items = items;
+        this.verifying = verifying;
+        long[][] totals = scan(items);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            itemCounts.set(i, totals[0][i]);
+            totalQualities.set(i, totals[1][i]);
+            maxQualityCounts.set(i, totals[2][i]);
+            expiredCounts.set(i, totals[3][i]);
+        }
+    }
+
+    @Override
+    public boolean needsItemTimings() {
+        return false;
+    }
+
+    @Override
+    public void itemUpdated(int index, Item item, ItemCategory category, int previousSellIn, int previousQuality, long nanos) {
+        int ordinal = category.ordinal();
+        if (item.quality != previousQuality) {
+            totalQualities.addAndGet(ordinal, (long) item.quality - previousQuality);
+            maxQualityCounts.addAndGet(ordinal, atMaximum(item.quality) - atMaximum(previousQuality));
+        }
+        if (item.sellIn != previousSellIn) {
+            expiredCounts.addAndGet(ordinal, expired(item.sellIn) - expired(previousSellIn));
+        }
+    }
+
+    /**
+     * @throws IllegalStateException in verifying mode, if the totals disagree with a full scan
+     */
+    @Override
+    public void passFinished(long nanos) {
+        if (verifying) {
+            verify();
+        }
+    }
+
+    /**
+     * Recomputes every total from the items and compares it with the incremental value.
+     *
+     * @throws IllegalStateException if any total differs
+     */
+    public void verify() {
+        long[][] totals = scan(items);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            check("item count", i, totals[0][i], itemCounts.get(i));
+            check("total quality", i, totals[1][i], totalQualities.get(i));
+            check("items at maximum quality", i, totals[2][i], maxQualityCounts.get(i));
+            check("expired items", i, totals[3][i], expiredCounts.get(i));
+        }
+    }
+
+    public long itemCount(ItemCategory category) {
+        return itemCounts.get(category.ordinal());
+    }
+
+    public long totalQuality(ItemCategory category) {
+        return totalQualities.get(category.ordinal());
+    }
+
+    public long maxQualityCount(ItemCategory category) {
+        return maxQualityCounts.get(category.ordinal());
+    }
+
+    public long expiredCount(ItemCategory category) {
+        return expiredCounts.get(category.ordinal());
+    }
+
+    public long totalQuality() {
+        return sum(totalQualities);
+    }
+
+    public long maxQualityCount() {
+        return sum(maxQualityCounts);
+    }
+
+    public long expiredCount() {
+        return sum(expiredCounts);
+    }
+
+    private static long[][] scan(Item[] items) {
+        long[][] totals = new long[4][CATEGORIES.length];
+        for (Item item : items) {
+            int ordinal = ItemCategory.of(item.name).ordinal();
+            totals[0][ordinal]++;
+            totals[1][ordinal] += item.quality;
+            totals[2][ordinal] += atMaximum(item.quality);
+            totals[3][ordinal] += expired(item.sellIn);
+        }
+        return totals;
+    }
+
+    private static void check(String total, int ordinal, long expected, long actual) {
+        if (expected != actual) {
+            throw new IllegalStateException("Incremental " + total + " for " + CATEGORIES[ordinal]
+                    + " is " + actual + " but a full scan gives " + expected);
+        }
+    }
+
+    private static int atMaximum(int quality) {
+        return quality == ItemCategory.MAX_QUALITY ? 1 : 0;
+    }
+
+    private static int expired(int sellIn) {
+        return sellIn < 0 ? 1 : 0;
+    }
+
+    private static long sum(AtomicLongArray values) {
+        long sum = 0;
+        for (int i = 0; i < values.length(); i++) {
+            sum += values.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gildedrose.metrics;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+
+/**
+ * Receives callbacks from the daily update pass of GildedRose.
+ * All methods are called on the thread running updateQuality(); implementations that are
+ * read from other threads must publish their state safely.
+ */
+public interface UpdateListener {
+
+    /**
+     * Tells whether this listener uses the per-item nanos passed to itemUpdated. When no registered
+     * listener does, the update pass skips reading the clock for every item and passes 0.
+     *
+     * @return true if per-item timings are needed
+     */
+    default boolean needsItemTimings() {
+        return true;
+    }
+
+    /**
+     * Called before the first item of a pass is updated.
+     *
+     * @param itemCount The number of items in the inventory
+     */
+    default void passStarted(int itemCount) {
+    }
+
+    /**
+     * Called after a single item has been updated.
+     *
+     * @param index           The position of the item in the inventory
+     * @param item            The item, already holding its new sellIn and quality
+     * @param category        The category the item was updated as
+     * @param previousSellIn  The sellIn before the update
+     * @param previousQuality The quality before the update
+     * @param nanos           Time spent updating the item
+     */
+    default void itemUpdated(int index, Item item, ItemCategory category, int previousSellIn, int previousQuality, long nanos) {
+    }
+
+    /**
+     * Called after the last item of a pass has been updated.
+     *
+     * @param nanos Duration of the whole pass, including listener callbacks
+     */
+    default void passFinished(long nanos) {
+    }
+}
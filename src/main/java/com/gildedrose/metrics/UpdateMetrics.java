@@ -0,0 +1,196 @@
+package com.gildedrose.metrics;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects per-category counts and latencies, bound clamping and sell-by crossings
+ * from the update pass. Attach it to GildedRose with addUpdateListener and optionally
+ * expose it through JMX with {@link #registerMBean(String)}.
+ *
+ * An item counts as clamped in a pass when its daily change would have taken its quality
+ * past the bound its category moves towards and the rules stopped it there: below 0 for
+ * normal and conjured items, above 50 for Aged Brie and backstage passes before the concert.
+ * Items that merely stay at a bound, or land on it exactly, are not counted.
+ */
+public class UpdateMetrics implements UpdateListener, UpdateMetricsMXBean {
+
+    private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+
+    private final LongAdder[] itemCounts = new LongAdder[CATEGORIES.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[CATEGORIES.length];
+    private final LatencyHistogram passDurations = new LatencyHistogram();
+    private final LongAdder passes = new LongAdder();
+    private final LongAdder clampedAtMinimum = new LongAdder();
+    private final LongAdder clampedAtMaximum = new LongAdder();
+    private final LongAdder crossedSellByDate = new LongAdder();
+    private volatile long lastPassNanos;
+
+    public UpdateMetrics() {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            itemCounts[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     *
+     * @param name Distinguishes several instances, for example one per store
+     * @return The object name the metrics were registered under
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName("com.gildedrose:type=UpdateMetrics,name=" + ObjectName.quote(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public void itemUpdated(int index, Item item, ItemCategory category, int previousSellIn, int previousQuality, long nanos) {
+        int ordinal = category.ordinal();
+        itemCounts[ordinal].increment();
+        latencies[ordinal].record(nanos);
+
+        if (previousSellIn >= 0 && item.sellIn < 0) {
+            crossedSellByDate.increment();
+        }
+        if (isClampedAtMinimum(category, previousSellIn, previousQuality)) {
+            clampedAtMinimum.increment();
+        } else if (isClampedAtMaximum(category, previousSellIn, previousQuality)) {
+            clampedAtMaximum.increment();
+        }
+    }
+
+    @Override
+    public void passFinished(long nanos) {
+        passes.increment();
+        passDurations.record(nanos);
+        lastPassNanos = nanos;
+    }
+
+    // The unclamped daily drop would have taken a positive quality below 0
+    private static boolean isClampedAtMinimum(ItemCategory category, int previousSellIn, int previousQuality) {
+        int rate;
+        if (category == ItemCategory.NORMAL) {
+            rate = 1;
+        } else if (category == ItemCategory.CONJURED) {
+            rate = 2;
+        } else {
+            return false;
+        }
+        int drop = previousSellIn <= 0 ? 2 * rate : rate;
+        return previousQuality > 0 && previousQuality < drop;
+    }
+
+    // The unclamped daily gain would have taken a quality below 50 above it
+    private static boolean isClampedAtMaximum(ItemCategory category, int previousSellIn, int previousQuality) {
+        int gain;
+        if (category == ItemCategory.AGED_BRIE) {
+            gain = previousSellIn <= 0 ? 2 : 1;
+        } else if (category == ItemCategory.BACKSTAGE_PASS && previousSellIn > 0) {
+            gain = previousSellIn <= ItemCategory.TRIPLE_INCREASE_THRESHOLD ? 3
+                    : previousSellIn <= ItemCategory.DOUBLE_INCREASE_THRESHOLD ? 2 : 1;
+        } else {
+            return false;
+        }
+        return previousQuality < ItemCategory.MAX_QUALITY && previousQuality + gain > ItemCategory.MAX_QUALITY;
+    }
+
+    public long getItemCount(ItemCategory category) {
+        return itemCounts[category.ordinal()].sum();
+    }
+
+    public LatencyHistogram getLatencies(ItemCategory category) {
+        return latencies[category.ordinal()];
+    }
+
+    public LatencyHistogram getPassDurations() {
+        return passDurations;
+    }
+
+    @Override
+    public long getPassCount() {
+        return passes.sum();
+    }
+
+    @Override
+    public long getLastPassNanos() {
+        return lastPassNanos;
+    }
+
+    @Override
+    public long getPassP99Nanos() {
+        return passDurations.valueAtPercentile(99);
+    }
+
+    @Override
+    public long getItemsUpdated() {
+        long total = 0;
+        for (LongAdder count : itemCounts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getItemCounts() {
+        return byCategory(category -> getItemCount(category));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Nanos() {
+        return byCategory(category -> getLatencies(category).valueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+        return byCategory(category -> getLatencies(category).valueAtPercentile(99));
+    }
+
+    @Override
+    public long getClampedAtMinimum() {
+        return clampedAtMinimum.sum();
+    }
+
+    @Override
+    public long getClampedAtMaximum() {
+        return clampedAtMaximum.sum();
+    }
+
+    @Override
+    public long getCrossedSellByDate() {
+        return crossedSellByDate.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            itemCounts[i].reset();
+            latencies[i].reset();
+        }
+        passDurations.reset();
+        passes.reset();
+        clampedAtMinimum.reset();
+        clampedAtMaximum.reset();
+        crossedSellByDate.reset();
+        lastPassNanos = 0;
+    }
+
+    private static Map<String, Long> byCategory(ToLongFunction<ItemCategory> value) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (ItemCategory category : CATEGORIES) {
+            values.put(category.name(), value.applyAsLong(category));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,32 @@
+package com.gildedrose.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics collected from the daily update pass.
+ * Maps are keyed by item category name.
+ */
+public interface UpdateMetricsMXBean {
+
+    long getPassCount();
+
+    long getLastPassNanos();
+
+    long getPassP99Nanos();
+
+    long getItemsUpdated();
+
+    Map<String, Long> getItemCounts();
+
+    Map<String, Long> getLatencyP50Nanos();
+
+    Map<String, Long> getLatencyP99Nanos();
+
+    long getClampedAtMinimum();
+
+    long getClampedAtMaximum();
+
+    long getCrossedSellByDate();
+
+    void reset();
+}
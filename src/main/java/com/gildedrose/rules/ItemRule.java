@@ -0,0 +1,133 @@
+package com.gildedrose.rules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Declarative description of how one item type changes each day.
+ * Quality moves by the daily delta, or by the delta of the narrowest tier whose threshold the
+ * sellIn has reached. Once the sell date has passed (sellIn 0 or less before the update) the
+ * delta is applied expiredMultiplier times, or the quality drops to 0 if dropToZeroWhenExpired
+ * is set. Like the hand-written strategies, a step never moves quality past the bounds but
+ * leaves qualities that are already outside them alone.
+ */
+public final class ItemRule {
+
+    /**
+     * A delta that applies once sellIn is at or below the threshold.
+     */
+    public static final class Tier {
+        private final int sellInAtMost;
+        private final int delta;
+
+        public Tier(int sellInAtMost, int delta) {
+            this.sellInAtMost = sellInAtMost;
+            this.delta = delta;
+        }
+
+        public int sellInAtMost() {
+            return sellInAtMost;
+        }
+
+        public int delta() {
+            return delta;
+        }
+    }
+
+    private final String id;
+    private final String exactName;
+    private final String namePrefix;
+    private final boolean ages;
+    private final int delta;
+    private final int expiredMultiplier;
+    private final List<Tier> tiers;
+    private final int minQuality;
+    private final int maxQuality;
+    private final boolean dropToZeroWhenExpired;
+
+    /**
+     * @param id                    Identifier of the rule, used in error messages
+     * @param exactName             Name matched exactly, or null to match by prefix
+     * @param namePrefix            Prefix matched when exactName is null; empty matches every name
+     * @param ages                  Whether sellIn decreases each day
+     * @param delta                 Daily quality change outside any tier
+     * @param expiredMultiplier     Number of times the delta applies after the sell date
+     * @param tiers                 Deltas by sellIn threshold, in any order
+     * @param minQuality            Lower bound for quality
+     * @param maxQuality            Upper bound for quality
+     * @param dropToZeroWhenExpired Whether quality becomes 0 after the sell date
+     */
+    public ItemRule(String id, String exactName, String namePrefix, boolean ages, int delta, int expiredMultiplier,
+                    List<Tier> tiers, int minQuality, int maxQuality, boolean dropToZeroWhenExpired) {
+        if ((exactName == null) == (namePrefix == null)) {
+            throw new IllegalArgumentException("Rule " + id + " needs exactly one of a name or a prefix");
+        }
+        if (expiredMultiplier < 1) {
+            throw new IllegalArgumentException("Rule " + id + ": expiredMultiplier must be at least 1: " + expiredMultiplier);
+        }
+        if (minQuality > maxQuality) {
+            throw new IllegalArgumentException("Rule " + id + ": minQuality " + minQuality + " exceeds maxQuality " + maxQuality);
+        }
+        List<Tier> sortedTiers = new ArrayList<>(tiers);
+        sortedTiers.sort(Comparator.comparingInt(Tier::sellInAtMost));
+
+        this.id = id;
+        this.exactName = exactName;
+        this.namePrefix = namePrefix;
+        this.ages = ages;
+        this.delta = delta;
+        this.expiredMultiplier = expiredMultiplier;
+        this.tiers = Collections.unmodifiableList(sortedTiers);
+        this.minQuality = minQuality;
+        this.maxQuality = maxQuality;
+        this.dropToZeroWhenExpired = dropToZeroWhenExpired;
+    }
+
+    public boolean matches(String itemName) {
+        return exactName != null ? exactName.equals(itemName) : itemName.startsWith(namePrefix);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public boolean ages() {
+        return ages;
+    }
+
+    public int delta() {
+        return delta;
+    }
+
+    public int expiredMultiplier() {
+        return expiredMultiplier;
+    }
+
+    /**
+     * @return The tiers ordered by ascending threshold, so the first one reached is the narrowest
+     */
+    public List<Tier> tiers() {
+        return tiers;
+    }
+
+    public int minQuality() {
+        return minQuality;
+    }
+
+    public int maxQuality() {
+        return maxQuality;
+    }
+
+    public boolean dropToZeroWhenExpired() {
+        return dropToZeroWhenExpired;
+    }
+
+    /**
+     * @return true if the rule never changes sellIn or quality
+     */
+    public boolean isFrozen() {
+        return !ages && delta == 0 && tiers.isEmpty() && !dropToZeroWhenExpired;
+    }
+}
@@ -0,0 +1,159 @@
+package com.gildedrose.rules;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.StrategyCache;
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * An ordered set of item rules, each compiled to its own strategy when the book is loaded.
+ * A name resolves to the strategy of the first rule that matches it; resolved names are cached,
+ * so steady-state dispatch costs the same single hash lookup as ItemStrategyFactory.
+ *
+ * Rules are read from properties. The "rules" key lists the rule ids in match order, and each
+ * rule is configured with keys prefixed by its id:
+ * - name or prefix: the exact name, or the name prefix, the rule applies to (an empty prefix matches every name)
+ * - delta: the daily quality change (default 0)
+ * - expiredMultiplier: how many times the delta applies after the sell date (default 1)
+ * - tiers: comma-separated sellInAtMost:delta pairs overriding the delta near the sell date
+ * - minQuality, maxQuality: the quality bounds (default 0 and 50)
+ * - dropToZeroWhenExpired: whether quality becomes 0 after the sell date (default false)
+ * - ages: whether sellIn decreases each day (default true)
+ */
+public class RuleBook {
+
+    /**
+     * Classpath location of the rules matching the built-in strategies.
+     */
+    public static final String DEFAULT_RULES = "/com/gildedrose/rules/item-rules.properties";
+
+    private final List<ItemRule> rules;
+    private final List<ItemUpdateStrategy> strategies;
+    private final StrategyCache cache;
+
+    public RuleBook(List<ItemRule> rules) {
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("A rule book needs at least one rule");
+        }
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.strategies = new ArrayList<>(rules.size());
+        for (ItemRule rule : rules) {
+            strategies.add(RuleCompiler.compile(rule));
+        }
+        this.cache = new StrategyCache(ItemStrategyFactory.CACHE_SIZE, this::resolve);
+    }
+
+    /**
+     * @return The rule book equivalent to the built-in strategies
+     */
+    public static RuleBook loadDefault() {
+        try (InputStream in = RuleBook.class.getResourceAsStream(DEFAULT_RULES)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing rules resource " + DEFAULT_RULES);
+            }
+            return load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static RuleBook load(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        return load(properties);
+    }
+
+    /**
+     * @throws IllegalArgumentException if a rule is missing or malformed
+     */
+    public static RuleBook load(Properties properties) {
+        String ids = properties.getProperty("rules");
+        if (ids == null) {
+            throw new IllegalArgumentException("Missing 'rules' key listing the rule ids");
+        }
+        List<ItemRule> rules = new ArrayList<>();
+        for (String id : ids.split(",")) {
+            rules.add(parseRule(id.trim(), properties));
+        }
+        return new RuleBook(rules);
+    }
+
+    /**
+     * Returns the compiled strategy for the given item name.
+     *
+     * @throws IllegalArgumentException if no rule matches the name
+     */
+    public ItemUpdateStrategy getStrategy(String itemName) {
+        return cache.get(itemName);
+    }
+
+    /**
+     * Updates every item by one day using the compiled rules.
+     */
+    public void updateQuality(Item[] items) {
+        for (Item item : items) {
+            getStrategy(item.name).updateItem(item);
+        }
+    }
+
+    public List<ItemRule> rules() {
+        return rules;
+    }
+
+    private ItemUpdateStrategy resolve(String itemName) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).matches(itemName)) {
+                return strategies.get(i);
+            }
+        }
+        throw new IllegalArgumentException("No rule matches item: " + itemName);
+    }
+
+    private static ItemRule parseRule(String id, Properties properties) {
+        String name = properties.getProperty(id + ".name");
+        String prefix = properties.getProperty(id + ".prefix");
+        List<ItemRule.Tier> tiers = new ArrayList<>();
+        String tierList = properties.getProperty(id + ".tiers", "").trim();
+        if (!tierList.isEmpty()) {
+            for (String tier : tierList.split(",")) {
+                String[] parts = tier.split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Rule " + id + ": tier must be sellInAtMost:delta, was '" + tier.trim() + "'");
+                }
+                tiers.add(new ItemRule.Tier(parseInt(id, "tiers", parts[0]), parseInt(id, "tiers", parts[1])));
+            }
+        }
+        return new ItemRule(id, name, prefix,
+                Boolean.parseBoolean(properties.getProperty(id + ".ages", "true").trim()),
+                intProperty(properties, id, "delta", 0),
+                intProperty(properties, id, "expiredMultiplier", 1),
+                tiers,
+                intProperty(properties, id, "minQuality", 0),
+                intProperty(properties, id, "maxQuality", 50),
+                Boolean.parseBoolean(properties.getProperty(id + ".dropToZeroWhenExpired", "false").trim()));
+    }
+
+    private static int intProperty(Properties properties, String id, String key, int defaultValue) {
+        String value = properties.getProperty(id + "." + key);
+        return value == null ? defaultValue : parseInt(id, key, value);
+    }
+
+    private static int parseInt(String id, String key, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Rule " + id + ": " + key + " is not a number: '" + value.trim() + "'");
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.gildedrose.rules;
+
+import com.gildedrose.Item;
+import com.gildedrose.strategy.ItemUpdateStrategy;
+
+import java.util.List;
+
+/**
+ * Turns rules into strategies specialized for the shape of the rule, so the daily update runs
+ * straight-line code over final fields instead of interpreting the rule for every item:
+ * - Frozen rules compile to a strategy that does nothing
+ * - Rules without tiers compile to a degrading or improving strategy, chosen by the sign of the delta
+ * - Rules with tiers compile to a tiered strategy with the thresholds unpacked into arrays
+ */
+final class RuleCompiler {
+
+    private RuleCompiler() {
+    }
+
+    static ItemUpdateStrategy compile(ItemRule rule) {
+        if (rule.isFrozen()) {
+            return new FrozenStrategy();
+        }
+        if (!rule.tiers().isEmpty()) {
+            return new TieredStrategy(rule);
+        }
+        if (rule.delta() < 0) {
+            return new DegradingStrategy(rule);
+        }
+        return new ImprovingStrategy(rule);
+    }
+
+    static final class FrozenStrategy implements ItemUpdateStrategy {
+        @Override
+        public void updateItem(Item item) {
+        }
+
+        @Override
+        public void updateAll(Item[] items, int from, int to) {
+        }
+
+        @Override
+        public void advance(Item item, int days) {
+            if (days < 0) {
+                throw new IllegalArgumentException("days must not be negative: " + days);
+            }
+        }
+    }
+
+    static final class DegradingStrategy implements ItemUpdateStrategy {
+        private final int decrease;
+        private final int expiredMultiplier;
+        private final int minQuality;
+        private final int sellInStep;
+        private final boolean dropToZeroWhenExpired;
+
+        DegradingStrategy(ItemRule rule) {
+            this.decrease = -rule.delta();
+            this.expiredMultiplier = rule.expiredMultiplier();
+            this.minQuality = rule.minQuality();
+            this.sellInStep = rule.ages() ? 1 : 0;
+            this.dropToZeroWhenExpired = rule.dropToZeroWhenExpired();
+        }
+
+        @Override
+        public void updateItem(Item item) {
+            int quality = item.quality;
+            if (item.sellIn <= 0) {
+                if (dropToZeroWhenExpired) {
+                    quality = 0;
+                } else {
+                    for (int i = 0; i < expiredMultiplier && quality > minQuality; i++) {
+                        quality = Math.max(quality - decrease, minQuality);
+                    }
+                }
+            } else if (quality > minQuality) {
+                quality = Math.max(quality - decrease, minQuality);
+            }
+            item.quality = quality;
+            item.sellIn -= sellInStep;
+        }
+    }
+
+    static final class ImprovingStrategy implements ItemUpdateStrategy {
+        private final int increase;
+        private final int expiredMultiplier;
+        private final int maxQuality;
+        private final int sellInStep;
+        private final boolean dropToZeroWhenExpired;
+
+        ImprovingStrategy(ItemRule rule) {
+            this.increase = rule.delta();
+            this.expiredMultiplier = rule.expiredMultiplier();
+            this.maxQuality = rule.maxQuality();
+            this.sellInStep = rule.ages() ? 1 : 0;
+            this.dropToZeroWhenExpired = rule.dropToZeroWhenExpired();
+        }
+
+        @Override
+        public void updateItem(Item item) {
+            int quality = item.quality;
+            if (item.sellIn <= 0) {
+                if (dropToZeroWhenExpired) {
+                    quality = 0;
+                } else {
+                    for (int i = 0; i < expiredMultiplier && quality < maxQuality; i++) {
+                        quality = Math.min(quality + increase, maxQuality);
+                    }
+                }
+            } else if (quality < maxQuality) {
+                quality = Math.min(quality + increase, maxQuality);
+            }
+            item.quality = quality;
+            item.sellIn -= sellInStep;
+        }
+    }
+
+    static final class TieredStrategy implements ItemUpdateStrategy {
+        private final int[] thresholds;
+        private final int[] deltas;
+        private final int delta;
+        private final int expiredMultiplier;
+        private final int minQuality;
+        private final int maxQuality;
+        private final int sellInStep;
+        private final boolean dropToZeroWhenExpired;
+
+        TieredStrategy(ItemRule rule) {
+            List<ItemRule.Tier> tiers = rule.tiers();
+            this.thresholds = new int[tiers.size()];
+            this.deltas = new int[tiers.size()];
+            for (int i = 0; i < tiers.size(); i++) {
+                thresholds[i] = tiers.get(i).sellInAtMost();
+                deltas[i] = tiers.get(i).delta();
+            }
+            this.delta = rule.delta();
+            this.expiredMultiplier = rule.expiredMultiplier();
+            this.minQuality = rule.minQuality();
+            this.maxQuality = rule.maxQuality();
+            this.sellInStep = rule.ages() ? 1 : 0;
+            this.dropToZeroWhenExpired = rule.dropToZeroWhenExpired();
+        }
+
+        @Override
+        public void updateItem(Item item) {
+            int sellIn = item.sellIn;
+            int quality = item.quality;
+            if (sellIn <= 0 && dropToZeroWhenExpired) {
+                quality = 0;
+            } else {
+                int change = deltaFor(sellIn);
+                int steps = sellIn <= 0 ? expiredMultiplier : 1;
+                for (int i = 0; i < steps; i++) {
+                    quality = step(quality, change);
+                }
+            }
+            item.quality = quality;
+            item.sellIn = sellIn - sellInStep;
+        }
+
+        private int deltaFor(int sellIn) {
+            for (int i = 0; i < thresholds.length; i++) {
+                if (sellIn <= thresholds[i]) {
+                    return deltas[i];
+                }
+            }
+            return delta;
+        }
+
+        private int step(int quality, int change) {
+            if (change > 0 && quality < maxQuality) {
+                return Math.min(quality + change, maxQuality);
+            }
+            if (change < 0 && quality > minQuality) {
+                return Math.max(quality + change, minQuality);
+            }
+            return quality;
+        }
+    }
+}
@@ -23,6 +23,32 @@ public class AgedBrieStrategy implements ItemUpdateStrategy {
         }
     }
     
+    @Override
+    public void updateAll(Item[] items, int from, int to) {
+        // Same rules as updateItem, worked out on locals with one write per field
+        for (int i = from; i < to; i++) {
+            Item item = items[i];
+            int sellIn = item.sellIn - 1;
+            int quality = item.quality;
+            if (quality < MAX_QUALITY) {
+                item.quality = sellIn < 0 ? Math.min(quality + 2, MAX_QUALITY) : quality + 1;
+            }
+            item.sellIn = sellIn;
+        }
+    }
+    
+    @Override
+    public void advance(Item item, int days) {
+        DayMath.requireNonNegative(days);
+        int daysBeforeSellDate = DayMath.daysBeforeSellDate(item.sellIn, days);
+        long improvement = daysBeforeSellDate + 2L * (days - daysBeforeSellDate);
+
+        if (item.quality < MAX_QUALITY) {
+            item.quality = (int) Math.min(item.quality + improvement, MAX_QUALITY);
+        }
+        item.sellIn -= days;
+    }
+    
     private void increaseQuality(Item item) {
         if (item.quality < MAX_QUALITY) {
             item.quality++;
@@ -27,6 +27,51 @@ public class BackstagePassStrategy implements ItemUpdateStrategy {
         }
     }
     
+    @Override
+    public void updateAll(Item[] items, int from, int to) {
+        // Same rules as updateItem, worked out on locals with one write per field
+        for (int i = from; i < to; i++) {
+            Item item = items[i];
+            int sellIn = item.sellIn;
+            int quality = item.quality;
+            if (sellIn <= 0) {
+                quality = 0; // The concert is today
+            } else if (quality < MAX_QUALITY) {
+                int increase = sellIn <= TRIPLE_INCREASE_THRESHOLD ? 3
+                        : sellIn <= DOUBLE_INCREASE_THRESHOLD ? 2 : 1;
+                quality = Math.min(quality + increase, MAX_QUALITY);
+            }
+            item.quality = quality;
+            item.sellIn = sellIn - 1;
+        }
+    }
+    
+    @Override
+    public void advance(Item item, int days) {
+        DayMath.requireNonNegative(days);
+        if (days == 0) {
+            return;
+        }
+        
+        // The sellIn values seen at the start of each day run from firstSellIn down to lastSellIn
+        int firstSellIn = item.sellIn;
+        int lastSellIn = item.sellIn - days + 1;
+        item.sellIn -= days;
+        
+        if (lastSellIn <= 0) {
+            item.quality = 0; // The concert happens within the period
+            return;
+        }
+        if (item.quality >= MAX_QUALITY) {
+            return;
+        }
+        
+        long increase = DayMath.overlap(lastSellIn, firstSellIn, DOUBLE_INCREASE_THRESHOLD + 1, Integer.MAX_VALUE)
+                + 2L * DayMath.overlap(lastSellIn, firstSellIn, TRIPLE_INCREASE_THRESHOLD + 1, DOUBLE_INCREASE_THRESHOLD)
+                + 3L * DayMath.overlap(lastSellIn, firstSellIn, 1, TRIPLE_INCREASE_THRESHOLD);
+        item.quality = (int) Math.min(item.quality + increase, MAX_QUALITY);
+    }
+    
     private void increaseQualityBasedOnDaysLeft(Item item) {
         if (item.quality >= MAX_QUALITY) {
             return;
@@ -23,6 +23,33 @@ public class ConjuredItemStrategy implements ItemUpdateStrategy {
         }
     }
     
+    @Override
+    public void updateAll(Item[] items, int from, int to) {
+        // Same rules as updateItem, worked out on locals with one write per field
+        for (int i = from; i < to; i++) {
+            Item item = items[i];
+            int sellIn = item.sellIn - 1;
+            int quality = item.quality;
+            if (quality > 0) {
+                int degradation = sellIn < 0 ? 2 * CONJURED_DEGRADATION_RATE : CONJURED_DEGRADATION_RATE;
+                item.quality = Math.max(quality - degradation, 0);
+            }
+            item.sellIn = sellIn;
+        }
+    }
+    
+    @Override
+    public void advance(Item item, int days) {
+        DayMath.requireNonNegative(days);
+        int daysBeforeSellDate = DayMath.daysBeforeSellDate(item.sellIn, days);
+        long degradation = CONJURED_DEGRADATION_RATE * (daysBeforeSellDate + 2L * (days - daysBeforeSellDate));
+
+        if (item.quality > 0) {
+            item.quality = (int) Math.max(item.quality - degradation, 0);
+        }
+        item.sellIn -= days;
+    }
+    
     private void decreaseQuality(Item item, int amount) {
         for (int i = 0; i < amount && item.quality > 0; i++) {
             item.quality--;
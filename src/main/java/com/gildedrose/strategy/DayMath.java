@@ -0,0 +1,33 @@
+package com.gildedrose.strategy;
+
+/**
+ * Day counting helpers shared by the closed-form multi-day advance of the strategies.
+ */
+final class DayMath {
+
+    private DayMath() {
+    }
+
+    static void requireNonNegative(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("days must not be negative: " + days);
+        }
+    }
+
+    /**
+     * Counts the days, out of the next {@code days}, that end with the sell date not yet passed.
+     * Day k (starting at 0) ends with sellIn - k - 1, so it counts while k &lt; sellIn.
+     */
+    static int daysBeforeSellDate(int sellIn, int days) {
+        return Math.max(0, Math.min(sellIn, days));
+    }
+
+    /**
+     * Counts the integers shared by the inclusive ranges [from, to] and [lower, upper].
+     */
+    static long overlap(int from, int to, int lower, int upper) {
+        long start = Math.max(from, lower);
+        long end = Math.min(to, upper);
+        return Math.max(0, end - start + 1);
+    }
+}
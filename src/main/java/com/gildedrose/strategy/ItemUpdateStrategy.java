@@ -14,4 +14,33 @@ public interface ItemUpdateStrategy {
      * @param item The item to be updated
      */
     void updateItem(Item item);
+
+    /**
+     * Updates a contiguous run of items that all belong to this strategy.
+     * The built-in strategies override this with a loop that reads each item's fields once,
+     * works on locals and writes each field back once, with no call per item.
+     *
+     * @param items The items array
+     * @param from  Index of the first item to update, inclusive
+     * @param to    Index of the last item to update, exclusive
+     */
+    default void updateAll(Item[] items, int from, int to) {
+        for (int i = from; i < to; i++) {
+            updateItem(items[i]);
+        }
+    }
+
+    /**
+     * Advances the item by the given number of days. The result is the same as calling
+     * {@link #updateItem(Item)} that many times; strategies override this with a closed form.
+     *
+     * @param item The item to be advanced
+     * @param days The number of days to advance, zero or more
+     */
+    default void advance(Item item, int days) {
+        DayMath.requireNonNegative(days);
+        for (int day = 0; day < days; day++) {
+            updateItem(item);
+        }
+    }
 }
\ No newline at end of file
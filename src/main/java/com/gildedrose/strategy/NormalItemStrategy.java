@@ -21,6 +21,32 @@ public class NormalItemStrategy implements ItemUpdateStrategy {
         }
     }
     
+    @Override
+    public void updateAll(Item[] items, int from, int to) {
+        // Same rules as updateItem, worked out on locals with one write per field
+        for (int i = from; i < to; i++) {
+            Item item = items[i];
+            int sellIn = item.sellIn - 1;
+            int quality = item.quality;
+            if (quality > 0) {
+                item.quality = sellIn < 0 ? Math.max(quality - 2, 0) : quality - 1;
+            }
+            item.sellIn = sellIn;
+        }
+    }
+    
+    @Override
+    public void advance(Item item, int days) {
+        DayMath.requireNonNegative(days);
+        int daysBeforeSellDate = DayMath.daysBeforeSellDate(item.sellIn, days);
+        long degradation = daysBeforeSellDate + 2L * (days - daysBeforeSellDate);
+
+        if (item.quality > 0) {
+            item.quality = (int) Math.max(item.quality - degradation, 0);
+        }
+        item.sellIn -= days;
+    }
+    
     private void decreaseQuality(Item item) {
         if (item.quality > 0) {
             item.quality--;
@@ -16,4 +16,15 @@ public class SulfurasStrategy implements ItemUpdateStrategy {
         // Sulfuras never changes - it's a legendary item
         // No quality or sellIn modifications needed
     }
+    
+    @Override
+    public void updateAll(Item[] items, int from, int to) {
+        // Nothing to do for any number of Sulfuras
+    }
+    
+    @Override
+    public void advance(Item item, int days) {
+        DayMath.requireNonNegative(days);
+        // Unchanged no matter how many days pass
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchUpdateEngineTest {
+
+    @Test
+    @DisplayName("Batch updates match per-item updates")
+    void matchesPerItemUpdates() {
+        Item[] expected = InventoryGenerator.generate(20_000, 11);
+        Item[] actual = InventoryGenerator.copyOf(expected);
+        GildedRose app = new GildedRose(expected);
+        BatchUpdateEngine engine = new BatchUpdateEngine(actual);
+
+        for (int day = 0; day < 30; day++) {
+            app.updateQuality();
+            engine.updateQuality();
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].toString(), actual[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Items are grouped by category without reordering the inventory")
+    void groupsByCategory() {
+        Item[] items = new Item[] {
+            new Item("Aged Brie", 1, 1),
+            new Item("Normal Item", 1, 1),
+            new Item("Conjured Sword", 1, 1),
+            new Item("Aged Brie", 1, 1)
+        };
+
+        BatchUpdateEngine engine = new BatchUpdateEngine(items);
+
+        assertEquals(2, engine.count(ItemCategory.AGED_BRIE));
+        assertEquals(1, engine.count(ItemCategory.NORMAL));
+        assertEquals(1, engine.count(ItemCategory.CONJURED));
+        assertEquals(0, engine.count(ItemCategory.SULFURAS));
+        assertEquals("Normal Item", items[1].name);
+    }
+}
@@ -0,0 +1,43 @@
+package com.gildedrose;
+
+import com.gildedrose.io.ItemTextFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchUpdateTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("A batch run writes the inventory as it is after one updateQuality()")
+    void updatesOnceAndWrites() throws Exception {
+        Item[] items = {
+                new Item("+5 Dexterity Vest", 10, 20),
+                new Item("Aged Brie", 0, 49),
+                new Item("Sulfuras, Hand of Ragnaros", -1, 80),
+                new Item("Backstage passes to a TAFKAL80ETC concert", 5, 20),
+                new Item("Conjured Mana Cake", 3, 6) };
+        Path input = dir.resolve("inventory.txt");
+        Path output = dir.resolve("updated.txt");
+        BatchUpdate.write(items, input);
+
+        assertEquals(items.length, BatchUpdate.run(input, output));
+
+        new GildedRose(items).updateQuality();
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals(ItemTextFormat.HEADER, lines.get(0));
+        assertEquals(items.length + 1, lines.size());
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].toString(), lines.get(i + 1));
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.gildedrose;
 
+import com.gildedrose.index.ExpiryIndex;
+import com.gildedrose.metrics.InventoryAggregates;
+import com.gildedrose.metrics.UpdateMetrics;
+import com.gildedrose.rules.RuleBook;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GildedRoseTest {
@@ -264,4 +271,158 @@ class GildedRoseTest {
         assertEquals(8, items[2].quality);  // Conjured: -2
         assertEquals(80, items[3].quality); // Sulfuras: no change
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Advancing several days at once matches daily updates")
+    void advanceMatchesDailyUpdates() {
+        Item[] daily = new Item[] {
+            new Item("Normal Item", 5, 10),
+            new Item("Aged Brie", 3, 5),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 11, 20),
+            new Item("Conjured Mana Cake", 2, 30),
+            new Item("Sulfuras, Hand of Ragnaros", 0, 80)
+        };
+        Item[] advanced = new Item[daily.length];
+        for (int i = 0; i < daily.length; i++) {
+            advanced[i] = new Item(daily[i].name, daily[i].sellIn, daily[i].quality);
+        }
+
+        GildedRose dailyApp = new GildedRose(daily);
+        for (int day = 0; day < 8; day++) {
+            dailyApp.updateQuality();
+        }
+        new GildedRose(advanced).advance(8);
+
+        for (int i = 0; i < daily.length; i++) {
+            assertEquals(daily[i].toString(), advanced[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Update listeners observe every item and do not change the results")
+    void updateListenersObserveEveryItem() {
+        Item[] items = new Item[] {
+            new Item("Normal Item", 0, 1),
+            new Item("Aged Brie", 5, 50),
+            new Item("Conjured Mana Cake", 5, 10)
+        };
+        GildedRose app = new GildedRose(items);
+        UpdateMetrics metrics = new UpdateMetrics();
+        app.addUpdateListener(metrics);
+
+        app.updateQuality();
+
+        assertEquals(0, items[0].quality);
+        assertEquals(50, items[1].quality);
+        assertEquals(8, items[2].quality);
+        assertEquals(3, metrics.getItemsUpdated());
+        assertEquals(1, metrics.getPassCount());
+        assertEquals(1, metrics.getCrossedSellByDate());
+
+        app.removeUpdateListener(metrics);
+        app.updateQuality();
+        assertEquals(1, metrics.getPassCount());
+    }
+
+    @Test
+    @DisplayName("Updating with the default rule book matches the built-in strategies")
+    void ruleBookUpdateMatchesStrategies() {
+        Item[] expected = new Item[] {
+            new Item("+5 Dexterity Vest", 10, 20),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 11, 45),
+            new Item("Conjured Mana Cake", 1, 9)
+        };
+        Item[] actual = new Item[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            actual[i] = new Item(expected[i].name, expected[i].sellIn, expected[i].quality);
+        }
+        GildedRose builtIn = new GildedRose(expected);
+        GildedRose compiled = new GildedRose(actual);
+        RuleBook rules = RuleBook.loadDefault();
+
+        for (int day = 0; day < 5; day++) {
+            builtIn.updateQuality();
+            compiled.updateQuality(rules);
+        }
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].toString(), actual[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Registered aggregates follow the update pass")
+    void aggregatesFollowUpdates() {
+        Item[] items = new Item[] {
+            new Item("Aged Brie", 1, 48),
+            new Item("+5 Dexterity Vest", 0, 20)
+        };
+        GildedRose app = new GildedRose(items);
+        InventoryAggregates aggregates = new InventoryAggregates(items, true);
+        app.addUpdateListener(aggregates);
+
+        app.updateQuality();
+        app.updateQuality();
+
+        assertEquals(66, aggregates.totalQuality());
+        assertEquals(1, aggregates.maxQualityCount());
+        assertEquals(2, aggregates.expiredCount());
+    }
+
+    @Test
+    @DisplayName("Registered aggregates also follow advance() and rule book updates")
+    void aggregatesFollowAdvanceAndRuleBook() {
+        Item[] items = new Item[] {
+            new Item("Aged Brie", 1, 48),
+            new Item("+5 Dexterity Vest", 0, 20),
+            new Item("Conjured Mana Cake", 3, 6)
+        };
+        GildedRose app = new GildedRose(items);
+        InventoryAggregates aggregates = new InventoryAggregates(items, true);
+        app.addUpdateListener(aggregates);
+
+        app.advance(3);
+        app.updateQuality(RuleBook.loadDefault());
+        aggregates.verify();
+
+        assertEquals(50 + 12 + 0, aggregates.totalQuality());
+        assertEquals(1, aggregates.maxQualityCount());
+        assertEquals(3, aggregates.expiredCount());
+    }
+
+    @Test
+    @DisplayName("Parallel updates are refused while listeners are registered")
+    void parallelUpdateRejectsListeners() {
+        Item[] items = new Item[] { new Item("+5 Dexterity Vest", 10, 20) };
+        GildedRose app = new GildedRose(items);
+        InventoryAggregates aggregates = new InventoryAggregates(items, false);
+        app.addUpdateListener(aggregates);
+
+        try (ParallelUpdateEngine engine = new ParallelUpdateEngine(2)) {
+            assertThrows(IllegalStateException.class, () -> app.updateQuality(engine));
+            assertEquals(20, items[0].quality);
+
+            app.removeUpdateListener(aggregates);
+            app.updateQuality(engine);
+        }
+        assertEquals(19, items[0].quality);
+    }
+
+    @Test
+    @DisplayName("A registered expiry index stays in step with updates and multi-day advances")
+    void expiryIndexFollowsUpdates() {
+        Item vest = new Item("+5 Dexterity Vest", 10, 20);
+        Item pass = new Item("Backstage passes to a TAFKAL80ETC concert", 3, 20);
+        GildedRose app = new GildedRose(new Item[] { vest, pass });
+        ExpiryIndex index = ExpiryIndex.of(app.items);
+        app.addUpdateListener(index);
+
+        app.updateQuality();
+        app.advance(4);
+
+        assertEquals(vest.sellIn, index.sellIn(vest));
+        assertEquals(pass.sellIn, index.sellIn(pass));
+        assertEquals(List.of(pass), index.withSellIn(-2, -2));
+        assertEquals(List.of(vest), index.expiringWithin(6));
+    }
+}
@@ -0,0 +1,64 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalUpdateEngineTest {
+
+    @Test
+    @DisplayName("Incremental updates match GildedRose after materializing")
+    void matchesGildedRose() {
+        Item[] expected = InventoryGenerator.generate(10_000, 3);
+        Item[] actual = InventoryGenerator.copyOf(expected);
+        GildedRose app = new GildedRose(expected);
+        IncrementalUpdateEngine engine = new IncrementalUpdateEngine(actual);
+
+        for (int day = 0; day < 80; day++) {
+            app.updateQuality();
+            engine.updateQuality();
+
+            for (int i = 0; i < expected.length; i += 97) {
+                assertEquals(expected[i].sellIn, engine.sellIn(i));
+                assertEquals(expected[i].quality, actual[i].quality);
+            }
+            if (day % 10 == 0) {
+                engine.materialize();
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[i].toString(), actual[i].toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Items at a quality fixed point leave the live partition")
+    void fixedItemsLeaveLivePartition() {
+        Item[] items = new Item[] {
+            new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+            new Item("Normal Item", 5, 0),
+            new Item("Normal Item", 5, 1),
+            new Item("Aged Brie", 5, 50),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 1, 20)
+        };
+        IncrementalUpdateEngine engine = new IncrementalUpdateEngine(items);
+
+        assertEquals(2, engine.liveCount());
+        assertEquals(3, engine.fixedCount());
+
+        engine.updateQuality();
+        engine.updateQuality();
+
+        assertEquals(0, engine.liveCount());
+        assertEquals(5, engine.fixedCount());
+
+        engine.materialize();
+        assertEquals(0, items[0].sellIn);
+        assertEquals(3, items[1].sellIn);
+        assertEquals(0, items[2].quality);
+        assertEquals(3, items[3].sellIn);
+        assertEquals(-1, items[4].sellIn);
+        assertEquals(0, items[4].quality);
+    }
+}
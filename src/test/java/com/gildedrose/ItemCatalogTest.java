@@ -0,0 +1,52 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCatalogTest {
+
+    @Test
+    @DisplayName("Items with equal names share one interned name")
+    void internsNames() {
+        ItemCatalog catalog = new ItemCatalog();
+        int first = catalog.add(new String("Aged Brie"), 2, 0);
+        int second = catalog.add(new String("Aged Brie"), 5, 10);
+        int vest = catalog.add("+5 Dexterity Vest", 10, 20);
+
+        assertSame(catalog.item(first).name, catalog.item(second).name);
+        assertEquals(catalog.nameId(first), catalog.nameId(second));
+        assertNotEquals(catalog.nameId(first), catalog.nameId(vest));
+        assertEquals(2, catalog.names().size());
+        assertEquals(ItemCategory.AGED_BRIE, catalog.category(second));
+        assertEquals(ItemCategory.NORMAL, catalog.category(vest));
+    }
+
+    @Test
+    @DisplayName("Updates through the category table match GildedRose")
+    void updatesMatchGildedRose() {
+        Item[] template = InventoryGenerator.generate(5_000, 23);
+        GildedRose expected = new GildedRose(InventoryGenerator.copyOf(template));
+        ItemCatalog catalog = ItemCatalog.of(InventoryGenerator.copyOf(template));
+
+        for (int day = 0; day < 30; day++) {
+            expected.updateQuality();
+            catalog.updateQuality();
+        }
+
+        Item[] actual = catalog.toItems();
+        for (int i = 0; i < template.length; i++) {
+            assertEquals(expected.items[i].toString(), actual[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Out of range indexes are rejected")
+    void rejectsBadIndexes() {
+        ItemCatalog catalog = ItemCatalog.of(new Item[] { new Item("Aged Brie", 2, 0) });
+
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.item(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.category(-1));
+    }
+}
@@ -0,0 +1,85 @@
+package com.gildedrose;
+
+import com.gildedrose.strategy.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemStrategyFactoryTest {
+
+    @Test
+    @DisplayName("Each item type resolves to its strategy")
+    void resolvesStrategyForEachItemType() {
+        assertTrue(ItemStrategyFactory.getStrategy("Aged Brie") instanceof AgedBrieStrategy);
+        assertTrue(ItemStrategyFactory.getStrategy("Sulfuras, Hand of Ragnaros") instanceof SulfurasStrategy);
+        assertTrue(ItemStrategyFactory.getStrategy("Backstage passes to a TAFKAL80ETC concert") instanceof BackstagePassStrategy);
+        assertTrue(ItemStrategyFactory.getStrategy("Conjured Mana Cake") instanceof ConjuredItemStrategy);
+        assertTrue(ItemStrategyFactory.getStrategy("+5 Dexterity Vest") instanceof NormalItemStrategy);
+    }
+
+    @Test
+    @DisplayName("Repeated lookups return the same shared instance")
+    void repeatedLookupsReturnSameInstance() {
+        assertSame(ItemStrategyFactory.getStrategy("Aged Brie"), ItemStrategyFactory.getStrategy("Aged Brie"));
+        assertSame(ItemStrategyFactory.getStrategy("Conjured Sword"), ItemStrategyFactory.getStrategy("Conjured Shield"));
+    }
+
+    @Test
+    @DisplayName("The category table hands out the same instances as name lookups, also after preloading")
+    void categoryTableMatchesNameLookup() {
+        ItemStrategyFactory.preload();
+        ItemStrategyFactory.preload();
+
+        for (String name : new String[] { "Aged Brie", "Sulfuras, Hand of Ragnaros",
+                "Backstage passes to a TAFKAL80ETC concert", "Conjured Mana Cake", "+5 Dexterity Vest" }) {
+            assertSame(ItemStrategyFactory.getStrategy(name), ItemStrategyFactory.getStrategy(ItemCategory.of(name)));
+        }
+    }
+
+    @Test
+    @DisplayName("Cache counts hits and misses")
+    void cacheCountsHitsAndMisses() {
+        StrategyCache cache = new StrategyCache(16, ItemStrategyFactory::resolveStrategy);
+
+        cache.get("Aged Brie");
+        cache.get("Aged Brie");
+        cache.get("Aged Brie");
+        cache.get("Elixir of the Mongoose");
+
+        assertEquals(2, cache.missCount());
+        assertEquals(2, cache.hitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Cache never grows past its maximum size")
+    void cacheIsBounded() {
+        StrategyCache cache = new StrategyCache(4, ItemStrategyFactory::resolveStrategy);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(cache.get("Item " + i) instanceof NormalItemStrategy);
+        }
+
+        assertEquals(4, cache.size());
+        assertEquals(96, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Cache evicts the least recently used name")
+    void cacheEvictsLeastRecentlyUsed() {
+        StrategyCache cache = new StrategyCache(4, ItemStrategyFactory::resolveStrategy);
+        cache.get("Aged Brie");
+        cache.get("Conjured Mana Cake");
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("Aged Brie");
+            cache.get("Conjured Mana Cake");
+            cache.get("Item " + i);
+        }
+
+        assertEquals(4, cache.size());
+        assertEquals(200, cache.hitCount());
+        assertEquals(102, cache.missCount());
+        assertEquals(98, cache.evictionCount());
+    }
+}
@@ -0,0 +1,48 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelUpdateEngineTest {
+
+    @Test
+    @DisplayName("Parallel updates are identical to sequential updates")
+    void parallelMatchesSequential() {
+        Item[] sequential = InventoryGenerator.generate(100_000, 7);
+        Item[] parallel = InventoryGenerator.copyOf(sequential);
+        GildedRose sequentialApp = new GildedRose(sequential);
+        GildedRose parallelApp = new GildedRose(parallel);
+
+        try (ParallelUpdateEngine engine = new ParallelUpdateEngine(4, 1_000, 512)) {
+            for (int day = 0; day < 30; day++) {
+                sequentialApp.updateQuality();
+                parallelApp.updateQuality(engine);
+            }
+        }
+
+        for (int i = 0; i < sequential.length; i++) {
+            assertEquals(sequential[i].toString(), parallel[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Small inventories below the cutoff are updated on the calling thread")
+    void smallInventoriesAreUpdatedSequentially() {
+        Item[] items = new Item[] { new Item("Normal Item", 10, 20), new Item("Aged Brie", 0, 20) };
+
+        try (ParallelUpdateEngine engine = new ParallelUpdateEngine(2)) {
+            engine.updateQuality(items);
+        }
+
+        assertEquals(19, items[0].quality);
+        assertEquals(22, items[1].quality);
+    }
+
+    @Test
+    @DisplayName("Parallelism must be positive")
+    void rejectsNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelUpdateEngine(0));
+    }
+}
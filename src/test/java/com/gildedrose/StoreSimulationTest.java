@@ -0,0 +1,92 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoreSimulationTest {
+
+    private static final int DAYS = 15;
+
+    @Test
+    @DisplayName("Sharded stores end up exactly as when advanced one after another")
+    void matchesSequentialStores() {
+        List<Item[]> stores = skewedStores();
+        List<Item[]> expected = copy(stores);
+        SimulationSummary expectedSummary = new SimulationSummary(DAYS);
+        for (Item[] store : expected) {
+            GildedRose app = new GildedRose(store);
+            for (int day = 1; day <= DAYS; day++) {
+                app.updateQuality();
+                expectedSummary.record(day, store);
+            }
+        }
+
+        SimulationSummary summary;
+        try (StoreSimulation simulation = new StoreSimulation(4, 1_000)) {
+            summary = simulation.run(stores, DAYS);
+        }
+
+        assertEquals(expectedSummary.toString(), summary.toString());
+        for (int store = 0; store < stores.size(); store++) {
+            for (int i = 0; i < stores.get(store).length; i++) {
+                assertEquals(expected.get(store)[i].toString(), stores.get(store)[i].toString());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Worker processes produce the same summary and leave the given stores untouched")
+    void processesMatchThreads() throws Exception {
+        List<Item[]> stores = skewedStores();
+        String before = stores.get(0)[0].toString();
+
+        SimulationSummary fromProcesses = StoreSimulation.runInProcesses(stores, DAYS, 2, 1);
+        SimulationSummary fromThreads;
+        try (StoreSimulation simulation = new StoreSimulation(2)) {
+            fromThreads = simulation.run(copy(stores), DAYS);
+        }
+
+        assertEquals(fromThreads.toString(), fromProcesses.toString());
+        assertEquals(before, stores.get(0)[0].toString());
+    }
+
+    @Test
+    @DisplayName("Stores are spread largest first onto the least loaded partition")
+    void partitionsBalanceLoad() {
+        List<Item[]> stores = new ArrayList<>();
+        for (int size : new int[] { 10, 70, 20, 40, 30, 30 }) {
+            stores.add(new Item[size]);
+        }
+
+        List<List<Item[]>> partitions = StoreSimulation.partition(stores, 2);
+
+        assertEquals(2, partitions.size());
+        for (List<Item[]> partition : partitions) {
+            assertEquals(100, partition.stream().mapToInt(store -> store.length).sum());
+        }
+    }
+
+    // A few large stores and many small ones
+    private static List<Item[]> skewedStores() {
+        List<Item[]> stores = new ArrayList<>();
+        for (int store = 0; store < 40; store++) {
+            int size = store % 13 == 0 ? 5_000 : 50 + store * 7;
+            stores.add(InventoryGenerator.generate(size, store));
+        }
+        return stores;
+    }
+
+    private static List<Item[]> copy(List<Item[]> stores) {
+        List<Item[]> copies = new ArrayList<>();
+        for (Item[] store : stores) {
+            copies.add(InventoryGenerator.copyOf(store));
+        }
+        return copies;
+    }
+}
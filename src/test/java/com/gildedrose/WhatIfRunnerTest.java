@@ -0,0 +1,132 @@
+package com.gildedrose;
+
+import com.gildedrose.benchmark.InventoryGenerator;
+import com.gildedrose.rules.RuleBook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WhatIfRunnerTest {
+
+    private static final int DAYS = 120;
+
+    @Test
+    @DisplayName("Each scenario matches copying the inventory and updating it day by day")
+    void matchesCopiedInventory() throws IOException {
+        Item[] base = InventoryGenerator.generate(3_000, 7);
+        List<Scenario> scenarios = List.of(
+                Scenario.baseline("baseline", DAYS),
+                new Scenario("restocked", DAYS, Map.of(0, 50, 17, 3, 2_999, -4), Scenario.STANDARD_CONJURED_DEGRADATION),
+                new Scenario("fast conjured", DAYS, Map.of(5, 40), 5),
+                new Scenario("stable conjured", DAYS, Map.of(), 0));
+
+        Map<String, SimulationSummary> results = new ConcurrentHashMap<>();
+        try (WhatIfRunner runner = new WhatIfRunner(base, 2)) {
+            runner.run(scenarios, (scenario, summary) -> results.put(scenario.name(), summary));
+        }
+
+        assertEquals(scenarios.size(), results.size());
+        for (Scenario scenario : scenarios) {
+            assertEquals(copyAndUpdate(base, scenario).toString(), results.get(scenario.name()).toString(),
+                    scenario.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenarios leave the base inventory untouched")
+    void baseInventoryUnchanged() {
+        Item[] base = InventoryGenerator.generate(500, 3);
+        Item[] before = InventoryGenerator.copyOf(base);
+
+        try (WhatIfRunner runner = new WhatIfRunner(base, 1)) {
+            runner.simulate(new Scenario("override", 30, Map.of(1, 10), 4));
+        }
+
+        for (int i = 0; i < base.length; i++) {
+            assertEquals(before[i].toString(), base[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("More scenarios than workers are all simulated")
+    void boundedExecutorRunsEveryScenario() {
+        Item[] base = InventoryGenerator.generate(200, 11);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int rate = 0; rate < 40; rate++) {
+            scenarios.add(new Scenario("rate " + rate, 10, Map.of(), rate));
+        }
+
+        Map<String, SimulationSummary> results = new ConcurrentHashMap<>();
+        try (WhatIfRunner runner = new WhatIfRunner(base, 3)) {
+            runner.run(scenarios, (scenario, summary) -> results.put(scenario.name(), summary));
+        }
+
+        assertEquals(40, results.size());
+    }
+
+    @Test
+    @DisplayName("Overriding an item outside the base inventory is rejected")
+    void rejectsUnknownItem() {
+        try (WhatIfRunner runner = new WhatIfRunner(new Item[] { new Item("+5 Dexterity Vest", 10, 20) }, 1)) {
+            Scenario scenario = new Scenario("out of range", 5, Map.of(1, 10), 2);
+
+            assertThrows(IllegalArgumentException.class, () -> runner.run(List.of(scenario), (s, summary) -> { }));
+        }
+    }
+
+    @Test
+    @DisplayName("Running scenarios on a closed runner fails instead of waiting forever")
+    void rejectsRunAfterClose() {
+        WhatIfRunner runner = new WhatIfRunner(InventoryGenerator.generate(10, 5), 1);
+        runner.close();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(IllegalStateException.class,
+                () -> runner.run(List.of(Scenario.baseline("a", 3)), (scenario, summary) -> { })));
+    }
+
+    @Test
+    @DisplayName("Errors thrown by the sink on a worker thread are reported by run")
+    void reportsErrorsFromWorkers() {
+        try (WhatIfRunner runner = new WhatIfRunner(InventoryGenerator.generate(10, 5), 2)) {
+            List<Scenario> scenarios = List.of(Scenario.baseline("a", 3), Scenario.baseline("b", 3));
+
+            CompletionException failure = assertThrows(CompletionException.class, () -> runner.run(scenarios,
+                    (scenario, summary) -> { throw new AssertionError("sink failed for " + scenario.name()); }));
+            assertTrue(failure.getCause() instanceof AssertionError);
+        }
+    }
+
+    private static SimulationSummary copyAndUpdate(Item[] base, Scenario scenario) throws IOException {
+        Item[] items = InventoryGenerator.copyOf(base);
+        for (int i = 0; i < scenario.overrideCount(); i++) {
+            items[scenario.overrideIndex(i)].quality = scenario.overrideQuality(i);
+        }
+        RuleBook rules = rulesWithConjuredDelta(-scenario.conjuredDegradation());
+        SimulationSummary summary = new SimulationSummary(scenario.days());
+        for (int day = 1; day <= scenario.days(); day++) {
+            rules.updateQuality(items);
+            summary.record(day, items);
+        }
+        return summary;
+    }
+
+    private static RuleBook rulesWithConjuredDelta(int delta) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = RuleBook.class.getResourceAsStream(RuleBook.DEFAULT_RULES)) {
+            properties.load(in);
+        }
+        properties.setProperty("conjured.delta", String.valueOf(delta));
+        return RuleBook.load(properties);
+    }
+}
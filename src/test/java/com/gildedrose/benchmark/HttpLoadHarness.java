@@ -0,0 +1,135 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.http.InventoryHttpServer;
+import com.gildedrose.http.RequestExecutors;
+import com.gildedrose.live.LiveInventory;
+import com.gildedrose.metrics.LatencyHistogram;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local load test for InventoryHttpServer. Starts the server in-process (or targets an existing
+ * one), runs many concurrent clients mixing name lookups and inserts while a daily tick is
+ * triggered once a second, and reports throughput with p50/p99 latency.
+ * Usage: HttpLoadHarness [clients] [requests-per-client] [base-url]
+ */
+public class HttpLoadHarness {
+
+    private static final String[] NAMES = {
+        "Aged Brie", "Sulfuras, Hand of Ragnaros", "Backstage passes to a TAFKAL80ETC concert",
+        "Conjured Mana Cake", "Elixir of the Mongoose", "+5 Dexterity Vest"
+    };
+
+    // Lookup paths with URI path encoding, which keeps '+' literal unlike form encoding
+    private static final String[] ITEM_PATHS = itemPaths();
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int requestsPerClient = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        InventoryHttpServer server = null;
+        String baseUrl;
+        if (args.length > 2) {
+            baseUrl = args[2];
+        } else {
+            server = InventoryHttpServer.start(LiveInventory.of(InventoryGenerator.generate(10_000, 42)),
+                    new InetSocketAddress("localhost", 0), RequestExecutors.best());
+            baseUrl = "http://localhost:" + server.port();
+        }
+
+        boolean virtual = RequestExecutors.virtualThreadsAvailable();
+        System.out.println("clients=" + clients + ", requests/client=" + requestsPerClient
+                + ", virtual threads=" + virtual + ", target=" + baseUrl);
+
+        ExecutorService clientExecutor = RequestExecutors.best();
+        HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicLong failures = new AtomicLong();
+        ExecutorService clientThreads = RequestExecutors.best();
+
+        Thread ticker = new Thread(() -> tickEverySecond(client, baseUrl));
+        ticker.setDaemon(true);
+        ticker.start();
+
+        long start = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            running.add(clientThreads.submit(() -> runClient(client, baseUrl, requestsPerClient, latencies, failures)));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        clientThreads.shutdown();
+        clientExecutor.shutdown();
+        ticker.interrupt();
+        if (server != null) {
+            server.close();
+        }
+
+        long total = latencies.count();
+        System.out.printf("requests=%d, failures=%d, throughput=%.0f req/s%n", total, failures.get(), total / seconds);
+        System.out.printf("p50=%.2f ms, p99=%.2f ms, max=%.2f ms%n",
+                latencies.valueAtPercentile(50) / 1e6, latencies.valueAtPercentile(99) / 1e6, latencies.max() / 1e6);
+    }
+
+    private static String[] itemPaths() {
+        String[] paths = new String[NAMES.length];
+        for (int i = 0; i < NAMES.length; i++) {
+            try {
+                paths[i] = new URI(null, null, "/items/" + NAMES[i], null).getRawPath();
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(NAMES[i], e);
+            }
+        }
+        return paths;
+    }
+
+    private static void runClient(HttpClient client, String baseUrl, int requests, LatencyHistogram latencies, AtomicLong failures) {
+        for (int r = 0; r < requests; r++) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            HttpRequest request;
+            if (random.nextInt(10) == 0) {
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/items"))
+                        .POST(HttpRequest.BodyPublishers.ofString("Conjured Load Test, 10, 20\n")).build();
+            } else {
+                String path = ITEM_PATHS[random.nextInt(ITEM_PATHS.length)];
+                request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+            }
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    failures.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    private static void tickEverySecond(HttpClient client, String baseUrl) {
+        HttpRequest tick = HttpRequest.newBuilder(URI.create(baseUrl + "/update")).POST(HttpRequest.BodyPublishers.noBody()).build();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(1_000);
+                client.send(tick, HttpResponse.BodyHandlers.discarding());
+            }
+        } catch (Exception e) {
+            // Stopped at the end of the run
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.gildedrose.benchmark;
+
+import com.gildedrose.Item;
+
+import java.util.Random;
+
+/**
+ * Builds reproducible inventories with a realistic mix of item types for benchmarks.
+ * Most items are normal goods; the rest are split between the special item types.
+ */
+public final class InventoryGenerator {
+
+    private static final String[] NORMAL_NAMES = {
+        "+5 Dexterity Vest", "Elixir of the Mongoose", "Potion of Healing", "Iron Shield", "Leather Boots"
+    };
+
+    private static final String[] CONJURED_NAMES = {
+        "Conjured Mana Cake", "Conjured Sword", "Conjured Shield of Power"
+    };
+
+    private InventoryGenerator() {
+    }
+
+    /**
+     * @param size The number of items
+     * @param seed Seed for the random mix, so runs are reproducible
+     * @return A new inventory of the given size
+     */
+    public static Item[] generate(int size, long seed) {
+        Random random = new Random(seed);
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = randomItem(random);
+        }
+        return items;
+    }
+
+    /**
+     * @return Fresh copies of the given items, for benchmarks that must not share mutated state
+     */
+    public static Item[] copyOf(Item[] items) {
+        Item[] copy = new Item[items.length];
+        for (int i = 0; i < items.length; i++) {
+            copy[i] = new Item(items[i].name, items[i].sellIn, items[i].quality);
+        }
+        return copy;
+    }
+
+    private static Item randomItem(Random random) {
+        int sellIn = random.nextInt(60) - 10;
+        int quality = random.nextInt(51);
+        int kind = random.nextInt(100);
+
+        if (kind < 60) {
+            return new Item(NORMAL_NAMES[random.nextInt(NORMAL_NAMES.length)], sellIn, quality);
+        }
+        if (kind < 75) {
+            return new Item(CONJURED_NAMES[random.nextInt(CONJURED_NAMES.length)], sellIn, quality);
+        }
+        if (kind < 85) {
+            return new Item("Aged Brie", sellIn, quality);
+        }
+        if (kind < 95) {
+            return new Item("Backstage passes to a TAFKAL80ETC concert", sellIn, quality);
+        }
+        return new Item("Sulfuras, Hand of Ragnaros", sellIn, 80);
+    }
+}
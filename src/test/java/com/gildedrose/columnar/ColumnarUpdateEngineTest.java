@@ -0,0 +1,106 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarUpdateEngineTest {
+
+    private static final String[] NAMES = {
+        "+5 Dexterity Vest", "Aged Brie", "Elixir of the Mongoose", "Sulfuras, Hand of Ragnaros",
+        "Backstage passes to a TAFKAL80ETC concert", "Conjured Mana Cake"
+    };
+
+    private final ColumnarUpdateEngine engine = new ColumnarUpdateEngine();
+
+    @Test
+    @DisplayName("Round trip through the columnar store preserves every item")
+    void roundTripPreservesItems() {
+        Item[] items = fixtureItems();
+
+        Item[] copy = ColumnarInventory.fromItems(items).toItems();
+
+        assertEquals(items.length, copy.length);
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].toString(), copy[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Names are interned once per distinct value")
+    void namesAreInterned() {
+        ColumnarInventory inventory = ColumnarInventory.fromItems(fixtureItems());
+
+        assertEquals(12, inventory.size());
+        assertEquals(9, inventory.names().size());
+    }
+
+    @Test
+    @DisplayName("Columnar updates match GildedRose on the fixture items for 60 days")
+    void matchesGildedRoseOnFixture() {
+        assertSameAsStrategies(fixtureItems(), 60);
+    }
+
+    @Test
+    @DisplayName("Columnar updates match GildedRose on random items, including out-of-range qualities")
+    void matchesGildedRoseOnRandomItems() {
+        Random random = new Random(42);
+        Item[] items = new Item[2_000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item(NAMES[random.nextInt(NAMES.length)], random.nextInt(40) - 10, random.nextInt(70) - 5);
+        }
+
+        assertSameAsStrategies(items, 40);
+    }
+
+    @Test
+    @DisplayName("copyTo writes the updated state back into the original items")
+    void copyToWritesBack() {
+        Item[] items = new Item[] { new Item("Aged Brie", 2, 0) };
+        ColumnarInventory inventory = ColumnarInventory.fromItems(items);
+
+        engine.updateQuality(inventory);
+        inventory.copyTo(items);
+
+        assertEquals(1, items[0].sellIn);
+        assertEquals(1, items[0].quality);
+    }
+
+    private void assertSameAsStrategies(Item[] items, int days) {
+        ColumnarInventory inventory = ColumnarInventory.fromItems(items);
+
+        for (int day = 0; day < days; day++) {
+            for (Item item : items) {
+                ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            }
+            engine.updateQuality(inventory);
+
+            for (int i = 0; i < items.length; i++) {
+                assertEquals(items[i].sellIn, inventory.sellIn(i), "sellIn of " + items[i].name + " on day " + day);
+                assertEquals(items[i].quality, inventory.quality(i), "quality of " + items[i].name + " on day " + day);
+            }
+        }
+    }
+
+    private static Item[] fixtureItems() {
+        return new Item[] {
+            new Item("+5 Dexterity Vest", 10, 20),
+            new Item("Aged Brie", 2, 0),
+            new Item("Elixir of the Mongoose", 5, 7),
+            new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+            new Item("Sulfuras, Hand of Ragnaros", -1, 80),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 15, 20),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 10, 49),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 5, 49),
+            new Item("Conjured Mana Cake", 3, 6),
+            new Item("Conjured Chai made it", 7, 20),
+            new Item("Conjured Chai made it again", 1, 10),
+            new Item("Conjured Chai made something else", 0, 3)
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KernelUpdateEngineTest {
+
+    @Test
+    @DisplayName("The best available kernel matches the strategies")
+    void bestKernelMatchesStrategies() {
+        assertMatchesStrategies(new KernelUpdateEngine());
+    }
+
+    @Test
+    @DisplayName("The scalar kernel matches the strategies")
+    void scalarKernelMatchesStrategies() {
+        assertMatchesStrategies(new KernelUpdateEngine(QualityKernels.scalar()));
+    }
+
+    @Test
+    @DisplayName("Sorting by category groups rows and keeps their relative order")
+    void sortByCategoryIsStable() {
+        ColumnarInventory inventory = ColumnarInventory.fromItems(new Item[] {
+            new Item("Normal A", 1, 1),
+            new Item("Aged Brie", 2, 2),
+            new Item("Normal B", 3, 3)
+        });
+
+        inventory.sortByCategory();
+
+        assertEquals(0, inventory.categoryStart(ItemCategory.NORMAL));
+        assertEquals(2, inventory.categoryEnd(ItemCategory.NORMAL));
+        assertEquals("Normal A", inventory.name(0));
+        assertEquals("Normal B", inventory.name(1));
+        assertEquals("Aged Brie", inventory.name(2));
+    }
+
+    @Test
+    @DisplayName("copyTo writes each row back to its own item after the engine has sorted the rows")
+    void copyToAfterSortingFollowsInsertionOrder() {
+        Item[] items = InventoryGenerator.generate(2_000, 13);
+        Item[] expected = InventoryGenerator.copyOf(items);
+        ColumnarInventory inventory = ColumnarInventory.fromItems(items);
+        KernelUpdateEngine engine = new KernelUpdateEngine(QualityKernels.scalar());
+
+        for (int day = 0; day < 10; day++) {
+            engine.updateQuality(inventory);
+            for (Item item : expected) {
+                ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            }
+        }
+        inventory.copyTo(items);
+
+        assertTrue(inventory.isSortedByCategory());
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(expected[i].toString(), items[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Items added after sorting keep their insertion position through the next sort")
+    void addAfterSortingKeepsInsertionOrder() {
+        ColumnarInventory inventory = ColumnarInventory.fromItems(new Item[] {
+            new Item("Aged Brie", 1, 1),
+            new Item("Normal A", 2, 2)
+        });
+        inventory.sortByCategory();
+        inventory.add("Conjured Mana Cake", 3, 3);
+        inventory.add("Normal B", 4, 4);
+        inventory.sortByCategory();
+
+        Item[] items = {
+            new Item("Aged Brie", 0, 0), new Item("Normal A", 0, 0),
+            new Item("Conjured Mana Cake", 0, 0), new Item("Normal B", 0, 0)
+        };
+        inventory.copyTo(items);
+
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(i + 1, items[i].sellIn, items[i].name);
+            assertEquals(items[i].toString(), inventory.toItems()[i].toString());
+        }
+    }
+
+    private static void assertMatchesStrategies(KernelUpdateEngine engine) {
+        ColumnarInventory inventory = ColumnarInventory.fromItems(InventoryGenerator.generate(5_000, 9));
+        Item[] expected = inventory.toItems();
+
+        for (int day = 0; day < 40; day++) {
+            engine.updateQuality(inventory);
+            for (Item item : expected) {
+                ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            }
+        }
+
+        Item[] actual = inventory.toItems();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].toString(), actual[i].toString());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.gildedrose.flow;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryUpdateProcessorTest {
+
+    private final ExecutorService upstreamExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService downstreamExecutor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutDown() {
+        upstreamExecutor.shutdownNow();
+        downstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Each day tick publishes the inventory updated by its strategies")
+    void publishesUpdatedItemsOnTick() throws Exception {
+        SubmissionPublisher<InventoryEvent> feed = new SubmissionPublisher<>(upstreamExecutor, 16);
+        InventoryUpdateProcessor processor = new InventoryUpdateProcessor(downstreamExecutor, 16, 2);
+        List<List<Item>> published = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> done = processor.consume(published::add);
+        feed.subscribe(processor);
+
+        feed.submit(InventoryEvent.item(new Item("Aged Brie", 2, 0)));
+        feed.submit(InventoryEvent.item(new Item("+5 Dexterity Vest", 10, 20)));
+        feed.submit(InventoryEvent.item(new Item("Conjured Mana Cake", 3, 6)));
+        feed.submit(InventoryEvent.tick());
+        feed.submit(InventoryEvent.tick());
+        feed.close();
+        done.get(10, TimeUnit.SECONDS);
+
+        assertEquals(4, published.size());
+        assertEquals(List.of(2, 1), List.of(published.get(2).size(), published.get(3).size()));
+        assertEquals("Aged Brie, 0, 2", published.get(2).get(0).toString());
+        assertEquals("+5 Dexterity Vest, 8, 18", published.get(2).get(1).toString());
+        assertEquals("Conjured Mana Cake, 1, 2", published.get(3).get(0).toString());
+        assertEquals(2, processor.day());
+        assertEquals(3, processor.inventorySize());
+    }
+
+    @Test
+    @DisplayName("A slow consumer holds back a fast producer with bounded buffering")
+    void slowConsumerBoundsBuffering() throws Exception {
+        int upstreamBuffer = 8;
+        int downstreamBuffer = 4;
+        int items = 2_000;
+        int ticks = 5;
+        SubmissionPublisher<InventoryEvent> feed = new SubmissionPublisher<>(upstreamExecutor, upstreamBuffer);
+        InventoryUpdateProcessor processor = new InventoryUpdateProcessor(downstreamExecutor, downstreamBuffer, 32);
+        SlowSubscriber consumer = new SlowSubscriber();
+        processor.subscribe(consumer);
+        feed.subscribe(processor);
+
+        int maxUpstreamLag = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < items; i++) {
+            maxUpstreamLag = Math.max(maxUpstreamLag, feed.submit(InventoryEvent.item(new Item("Elixir " + i, 20, 30))));
+        }
+        for (int tick = 0; tick < ticks; tick++) {
+            maxUpstreamLag = Math.max(maxUpstreamLag, feed.submit(InventoryEvent.tick()));
+        }
+        feed.close();
+        consumer.done.get(30, TimeUnit.SECONDS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(items * ticks, consumer.received.get());
+        // At most a full buffer plus the element being delivered
+        assertTrue(maxUpstreamLag <= upstreamBuffer + 1, "upstream lag " + maxUpstreamLag);
+        assertTrue(processor.maxObservedLag() <= downstreamBuffer + 1, "downstream lag " + processor.maxObservedLag());
+        assertTrue(processor.maxObservedLag() > 0);
+        assertTrue(consumer.received.get() / seconds > 1_000, "items per second: " + consumer.received.get() / seconds);
+    }
+
+    private static final class SlowSubscriber implements Flow.Subscriber<List<Item>> {
+        final AtomicInteger received = new AtomicInteger();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<Item> batch) {
+            received.addAndGet(batch.size());
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+}
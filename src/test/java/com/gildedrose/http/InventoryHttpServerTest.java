@@ -0,0 +1,76 @@
+package com.gildedrose.http;
+
+import com.gildedrose.Item;
+import com.gildedrose.live.LiveInventory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryHttpServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private InventoryHttpServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        LiveInventory inventory = LiveInventory.of(new Item[] {
+            new Item("Aged Brie", 2, 0),
+            new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+            new Item("+5 Dexterity Vest", 10, 20)
+        });
+        server = InventoryHttpServer.start(inventory, new InetSocketAddress("localhost", 0), Executors.newCachedThreadPool());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Items can be listed, looked up by name, added and updated")
+    void inventoryRoundTrip() throws Exception {
+        HttpResponse<String> added = send("POST", "/items", "Conjured Mana Cake, 3, 6\n");
+        assertEquals(201, added.statusCode());
+        assertEquals("3\n", added.body());
+
+        assertEquals(200, send("POST", "/update", "").statusCode());
+
+        HttpResponse<String> lookup = send("GET", "/items/Sulfuras, Hand of Ragnaros", "");
+        assertEquals(200, lookup.statusCode());
+        assertEquals("Sulfuras, Hand of Ragnaros, 0, 80\n", lookup.body());
+
+        HttpResponse<String> plus = send("GET", "/items/+5 Dexterity Vest", "");
+        assertEquals(200, plus.statusCode());
+        assertEquals("+5 Dexterity Vest, 9, 19\n", plus.body());
+
+        HttpResponse<String> all = send("GET", "/items", "");
+        assertTrue(all.body().contains("Aged Brie, 1, 1\n"));
+        assertTrue(all.body().contains("Conjured Mana Cake, 2, 4\n"));
+    }
+
+    @Test
+    @DisplayName("Unknown names, malformed bodies and wrong methods are rejected")
+    void rejectsBadRequests() throws Exception {
+        assertEquals(404, send("GET", "/items/Nothing", "").statusCode());
+        assertEquals(400, send("POST", "/items", "Aged Brie, soon, 0\n").statusCode());
+        assertEquals(405, send("GET", "/update", "").statusCode());
+    }
+
+    // The path is given unencoded; the URI constructor applies path encoding, which leaves '+' as it is
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(new URI("http", null, "localhost", server.port(), path, null, null))
+                .method(method, body.isEmpty() ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
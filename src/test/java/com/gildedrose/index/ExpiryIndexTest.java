@@ -0,0 +1,130 @@
+package com.gildedrose.index;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiryIndexTest {
+
+    @Test
+    @DisplayName("Expiry queries return the items about to pass their sell date")
+    void expiringWithin() {
+        Item vest = new Item("+5 Dexterity Vest", 2, 20);
+        Item cake = new Item("Conjured Mana Cake", 0, 6);
+        Item elixir = new Item("Elixir of the Mongoose", 5, 7);
+        Item expired = new Item("Aged Brie", -1, 10);
+        Item sulfuras = new Item("Sulfuras, Hand of Ragnaros", 0, 80);
+        ExpiryIndex index = ExpiryIndex.of(new Item[] { vest, cake, elixir, expired, sulfuras });
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(cake), index.expiringWithin(1));
+        assertTrue(index.expiringWithin(3).containsAll(List.of(vest, cake)));
+        assertEquals(2, index.expiringWithin(3).size());
+        assertEquals(3, index.countWithSellIn(0, 5));
+        assertNull(index.sellIn(sulfuras));
+    }
+
+    @Test
+    @DisplayName("Backstage passes entering the triple-increase window are found")
+    void enteringTripleIncreaseWindow() {
+        Item soon = new Item(ItemStrategyFactory.BACKSTAGE_PASSES, 7, 20);
+        Item inside = new Item(ItemStrategyFactory.BACKSTAGE_PASSES, 4, 20);
+        Item later = new Item(ItemStrategyFactory.BACKSTAGE_PASSES, 12, 20);
+        ExpiryIndex index = ExpiryIndex.of(new Item[] { soon, inside, later });
+
+        assertEquals(List.of(soon), index.enteringTripleIncreaseWindow(2));
+
+        index.advance(2);
+
+        assertEquals(5, index.sellIn(soon));
+        assertEquals(List.of(later), index.enteringTripleIncreaseWindow(7));
+    }
+
+    @Test
+    @DisplayName("The index stays in step with daily updates, adds and removes")
+    void staysInStepWithUpdates() {
+        Item[] items = InventoryGenerator.generate(5_000, 7);
+        ExpiryIndex index = ExpiryIndex.of(items);
+        List<Item> inventory = new ArrayList<>(List.of(items));
+
+        for (int day = 0; day < 40; day++) {
+            for (Item item : inventory) {
+                ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            }
+            index.advance();
+
+            Item removed = inventory.remove(day * 17);
+            assertTrue(index.remove(removed));
+            Item added = new Item("Conjured Sword", day % 9, 30);
+            inventory.add(added);
+            assertTrue(index.add(added));
+
+            for (int from = -5; from < 20; from += 5) {
+                assertEquals(scan(inventory, from, from + 4), new HashSet<>(index.withSellIn(from, from + 4)));
+                assertEquals(scan(inventory, from, from + 4).size(), index.countWithSellIn(from, from + 4));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Buckets are dropped once their day has passed and expired items stay queryable")
+    void prunesPassedBuckets() {
+        Item[] items = new Item[10];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item("Elixir of the Mongoose", i, 20);
+        }
+        ExpiryIndex index = ExpiryIndex.of(items);
+        assertEquals(10, index.bucketCount());
+
+        index.advance(5);
+
+        assertEquals(5, index.bucketCount());
+        assertEquals(5, index.countWithSellIn(-5, -1));
+        assertEquals(10, index.countWithSellIn(-5, 4));
+
+        for (int day = 0; day < 1_000; day++) {
+            index.advance();
+        }
+
+        assertEquals(0, index.bucketCount());
+        assertEquals(10, index.size());
+        assertEquals(Set.of(items), new HashSet<>(index.withSellIn(-1_005, -996)));
+        assertEquals(List.of(items[0]), index.withSellIn(-1_005, -1_005));
+        assertTrue(index.remove(items[0]));
+        assertEquals(9, index.countWithSellIn(Integer.MIN_VALUE / 2, 0));
+    }
+
+    @Test
+    @DisplayName("The index advances at the end of every update pass it is registered for")
+    void advancesWithUpdatePasses() {
+        Item item = new Item("Elixir of the Mongoose", 3, 20);
+        ExpiryIndex index = ExpiryIndex.of(new Item[] { item });
+
+        assertFalse(index.needsItemTimings());
+        index.passStarted(1);
+        index.passFinished(0);
+
+        assertEquals(2, index.sellIn(item));
+    }
+
+    private static Set<Item> scan(List<Item> inventory, int fromSellIn, int toSellIn) {
+        Set<Item> matches = new HashSet<>();
+        for (Item item : inventory) {
+            if (ItemCategory.of(item.name) != ItemCategory.SULFURAS
+                    && item.sellIn >= fromSellIn && item.sellIn <= toSellIn) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+}
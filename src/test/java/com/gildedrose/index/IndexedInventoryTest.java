@@ -0,0 +1,71 @@
+package com.gildedrose.index;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedInventoryTest {
+
+    private final Item brie = new Item("Aged Brie", 2, 0);
+    private final Item cake = new Item("Conjured Mana Cake", 3, 6);
+    private final Item chai = new Item("Conjured Chai made it", 7, 20);
+    private final Item vest = new Item("+5 Dexterity Vest", 10, 20);
+    private final Item otherVest = new Item("+5 Dexterity Vest", 4, 8);
+
+    @Test
+    @DisplayName("Items are found by exact name, prefix and category")
+    void lookups() {
+        IndexedInventory inventory = IndexedInventory.of(new Item[] { brie, cake, chai, vest, otherVest });
+
+        assertEquals(2, inventory.findByName("+5 Dexterity Vest").size());
+        assertTrue(inventory.findByName("Sulfuras, Hand of Ragnaros").isEmpty());
+        assertEquals(2, inventory.countByPrefix("Conjured"));
+        assertEquals(1, inventory.countByPrefix("Conjured C"));
+        assertTrue(inventory.findByPrefix("Conjured").containsAll(List.of(cake, chai)));
+        assertEquals(5, inventory.countByPrefix(""));
+        assertEquals(2, inventory.findByCategory(ItemCategory.NORMAL).size());
+        assertTrue(inventory.findByCategory(ItemCategory.AGED_BRIE).contains(brie));
+    }
+
+    @Test
+    @DisplayName("Removed items disappear from every index")
+    void removeKeepsIndexesConsistent() {
+        IndexedInventory inventory = IndexedInventory.of(new Item[] { brie, cake, chai, vest });
+
+        assertTrue(inventory.remove(cake));
+        assertFalse(inventory.remove(cake));
+
+        assertEquals(3, inventory.size());
+        assertFalse(inventory.contains(cake));
+        assertEquals(List.of(chai), inventory.findByPrefix("Conjured"));
+        assertEquals(0, inventory.countByPrefix("Conjured M"));
+        assertFalse(inventory.findByCategory(ItemCategory.CONJURED).contains(cake));
+        assertTrue(inventory.items().containsAll(List.of(brie, chai, vest)));
+    }
+
+    @Test
+    @DisplayName("Updates apply the strategies and leave the indexes valid")
+    void updateKeepsIndexesValid() {
+        IndexedInventory inventory = IndexedInventory.of(new Item[] { brie, cake, vest });
+
+        inventory.updateQuality();
+
+        assertEquals(1, brie.quality);
+        assertEquals(4, cake.quality);
+        assertEquals(19, vest.quality);
+        assertSame(cake, inventory.findByName("Conjured Mana Cake").iterator().next());
+    }
+
+    @Test
+    @DisplayName("The same item cannot be added twice")
+    void rejectsDuplicates() {
+        IndexedInventory inventory = IndexedInventory.of(new Item[] { brie });
+
+        assertThrows(IllegalArgumentException.class, () -> inventory.add(brie));
+    }
+}
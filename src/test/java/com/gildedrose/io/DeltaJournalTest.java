@@ -0,0 +1,99 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Replay rebuilds the inventory at every past day")
+    void replayRebuildsEveryDay() throws IOException {
+        Item[] items = InventoryGenerator.generate(2_000, 3);
+        List<String> history = new ArrayList<>();
+        history.add(describe(items));
+
+        try (DeltaJournal journal = DeltaJournal.create(directory, items, 7)) {
+            for (int day = 1; day <= 40; day++) {
+                runDay(items, journal);
+                history.add(describe(items));
+            }
+            assertEquals(40, journal.day());
+        }
+
+        assertEquals(40, DeltaJournal.latestDay(directory));
+        for (int day = 0; day <= 40; day++) {
+            assertEquals(history.get(day), describe(DeltaJournal.replay(directory, day)), "day " + day);
+        }
+        assertTrue(Files.exists(directory.resolve("checkpoint-00000035.grin")));
+    }
+
+    @Test
+    @DisplayName("Each changed item costs a couple of bytes")
+    void deltasAreCompact() throws IOException {
+        Item[] items = InventoryGenerator.generate(10_000, 5);
+        try (DeltaJournal journal = DeltaJournal.create(directory, items, 100)) {
+            runDay(items, journal);
+        }
+
+        long logBytes = Files.size(directory.resolve("segment-00000000.log")) - DeltaJournal.SEGMENT_HEADER_SIZE;
+        assertTrue(logBytes <= 2L * items.length + 1, "log bytes: " + logBytes);
+    }
+
+    @Test
+    @DisplayName("A partly written day is ignored")
+    void partialDayIsIgnored() throws IOException {
+        Item[] items = InventoryGenerator.generate(500, 9);
+        try (DeltaJournal journal = DeltaJournal.create(directory, items, 10)) {
+            runDay(items, journal);
+            runDay(items, journal);
+        }
+        String afterFirstDay = describe(DeltaJournal.replay(directory, 1));
+
+        try (FileChannel segment = FileChannel.open(directory.resolve("segment-00000000.log"), StandardOpenOption.WRITE)) {
+            segment.truncate(segment.size() - 3);
+        }
+
+        assertEquals(1, DeltaJournal.latestDay(directory));
+        assertEquals(afterFirstDay, describe(DeltaJournal.replay(directory, 1)));
+        assertThrows(IllegalArgumentException.class, () -> DeltaJournal.replay(directory, 2));
+    }
+
+    // Mirrors the instrumented pass of GildedRose.updateQuality()
+    private static void runDay(Item[] items, DeltaJournal journal) {
+        journal.passStarted(items.length);
+        for (int i = 0; i < items.length; i++) {
+            Item item = items[i];
+            int previousSellIn = item.sellIn;
+            int previousQuality = item.quality;
+            ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            journal.itemUpdated(i, item, ItemCategory.of(item.name), previousSellIn, previousQuality, 0);
+        }
+        journal.passFinished(0);
+    }
+
+    private static String describe(Item[] items) {
+        StringBuilder description = new StringBuilder();
+        for (Item item : items) {
+            description.append(item).append('\n');
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventorySnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("A restored snapshot matches the inventory it was taken from")
+    void restoresSnapshot() throws Exception {
+        Path file = directory.resolve("inventory.snapshot");
+        Item[] items = InventoryGenerator.generate(10_000, 11);
+
+        try (InventorySnapshotter snapshotter = new InventorySnapshotter(file)) {
+            snapshotter.snapshotAsync(items).join();
+        }
+        Item[] restored = InventorySnapshotter.restore(file);
+
+        assertEquals(items.length, restored.length);
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].toString(), restored[i].toString());
+        }
+        Item firstBrie = findFirst(restored, "Aged Brie");
+        Item lastBrie = findLast(restored, "Aged Brie");
+        assertNotSame(firstBrie, lastBrie);
+        assertSame(firstBrie.name, lastBrie.name);
+    }
+
+    @Test
+    @DisplayName("Snapshots taken after every update leave the latest state on disk")
+    void snapshotsFollowUpdates() throws Exception {
+        Path file = directory.resolve("inventory.snapshot");
+        Item[] items = InventoryGenerator.generate(50_000, 13);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        try (InventorySnapshotter snapshotter = new InventorySnapshotter(file)) {
+            for (int day = 0; day < 20; day++) {
+                for (Item item : items) {
+                    ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+                }
+                futures.add(snapshotter.snapshotAsync(items));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            assertTrue(snapshotter.writtenCount() >= 1 && snapshotter.writtenCount() <= 20);
+        }
+
+        Item[] restored = InventorySnapshotter.restore(file);
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].toString(), restored[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots requested after close fail instead of never completing")
+    void rejectsSnapshotsAfterClose() throws Exception {
+        Path file = directory.resolve("inventory.snapshot");
+        InventorySnapshotter snapshotter = new InventorySnapshotter(file);
+        snapshotter.snapshotAsync(InventoryGenerator.generate(10, 29)).get(10, TimeUnit.SECONDS);
+        snapshotter.close();
+
+        Item[] items = InventoryGenerator.generate(10, 31);
+        assertThrows(IllegalStateException.class, () -> snapshotter.snapshotAsync(items));
+        assertThrows(IllegalStateException.class, () -> snapshotter.snapshotAsync(items));
+    }
+
+    @Test
+    @DisplayName("Torn or corrupted snapshots are rejected")
+    void rejectsCorruptSnapshots() throws Exception {
+        Path file = directory.resolve("inventory.snapshot");
+        try (InventorySnapshotter snapshotter = new InventorySnapshotter(file)) {
+            snapshotter.snapshotAsync(InventoryGenerator.generate(1_000, 17)).join();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), 100);
+        }
+        IOException corrupt = assertThrows(IOException.class, () -> InventorySnapshotter.restore(file));
+        assertTrue(corrupt.getMessage().contains("Checksum"));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+        assertThrows(IOException.class, () -> InventorySnapshotter.restore(file));
+    }
+
+    @Test
+    @DisplayName("In-place updates mark the snapshot unchecked instead of recomputing its checksum")
+    void inPlaceUpdatesMarkUnchecked() throws Exception {
+        Path file = directory.resolve("inventory.snapshot");
+        Item[] items = InventoryGenerator.generate(1_000, 19);
+        try (InventorySnapshotter snapshotter = new InventorySnapshotter(file)) {
+            snapshotter.snapshotAsync(items).join();
+        }
+
+        try (MappedInventory inventory = MappedInventory.open(file)) {
+            inventory.updateQuality();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer version = ByteBuffer.allocate(4);
+            channel.read(version, BinaryInventoryFormat.VERSION_OFFSET);
+            assertEquals(BinaryInventoryFormat.UNCHECKED_VERSION, version.getInt(0));
+        }
+        Item[] restored = InventorySnapshotter.restore(file);
+        for (Item item : items) {
+            ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+        }
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].toString(), restored[i].toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshots are restored from read-only files and cannot be changed through a read-only mapping")
+    void restoresReadOnly() throws Exception {
+        Path file = directory.resolve("inventory.snapshot");
+        try (InventorySnapshotter snapshotter = new InventorySnapshotter(file)) {
+            snapshotter.snapshotAsync(InventoryGenerator.generate(100, 23)).join();
+        }
+        byte[] before = Files.readAllBytes(file);
+        assertTrue(file.toFile().setReadOnly());
+
+        assertEquals(100, InventorySnapshotter.restore(file).length);
+        try (MappedInventory inventory = MappedInventory.openReadOnly(file)) {
+            assertThrows(ReadOnlyBufferException.class, () -> inventory.set(0, 1, 1));
+            assertThrows(ReadOnlyBufferException.class, inventory::updateQuality);
+        }
+        assertArrayEquals(before, Files.readAllBytes(file));
+    }
+
+    private static Item findFirst(Item[] items, String name) {
+        for (Item item : items) {
+            if (item.name.equals(name)) {
+                return item;
+            }
+        }
+        throw new AssertionError("No " + name);
+    }
+
+    private static Item findLast(Item[] items, String name) {
+        for (int i = items.length - 1; i >= 0; i--) {
+            if (items[i].name.equals(name)) {
+                return items[i];
+            }
+        }
+        throw new AssertionError("No " + name);
+    }
+}
@@ -0,0 +1,174 @@
+package com.gildedrose.io;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryStreamProcessorTest {
+
+    @Test
+    @DisplayName("Records are updated and written in order")
+    void updatesRecordsInOrder() throws IOException {
+        String input = String.join("\n",
+            "name, sellIn, quality",
+            "+5 Dexterity Vest, 10, 20",
+            "Aged Brie, 2, 0",
+            "",
+            "Sulfuras, Hand of Ragnaros, -1, 80",
+            "Backstage passes to a TAFKAL80ETC concert, 5, 49",
+            "Conjured Mana Cake, 3, 6");
+        StringWriter output = new StringWriter();
+
+        long count = new InventoryStreamProcessor(2).process(new StringReader(input), output);
+
+        assertEquals(5, count);
+        assertEquals(String.join(System.lineSeparator(),
+            "+5 Dexterity Vest, 9, 19",
+            "Aged Brie, 1, 1",
+            "Sulfuras, Hand of Ragnaros, -1, 80",
+            "Backstage passes to a TAFKAL80ETC concert, 4, 50",
+            "Conjured Mana Cake, 2, 4") + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    @DisplayName("Malformed records fail the whole run")
+    void malformedRecordFails() {
+        StringReader input = new StringReader("Aged Brie, 2, 0\nAged Brie, two, 0\n");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new InventoryStreamProcessor(2).process(input, new StringWriter()));
+    }
+
+    @Test
+    @DisplayName("A large stream is processed without buffering it in memory")
+    void processesLargeStream() throws IOException {
+        GeneratedInput input = new GeneratedInput(200_000);
+        CountingWriter output = new CountingWriter();
+
+        long count = new InventoryStreamProcessor(64).process(input, output);
+
+        assertEquals(200_000, count);
+        assertEquals(200_000, output.lines);
+    }
+
+    @Test
+    @DisplayName("A blocked writer stops the parser once the queues are full")
+    void blockedWriterAppliesBackpressure() throws Exception {
+        int capacity = 16;
+        GeneratedInput input = new GeneratedInput(100_000);
+        CountDownLatch release = new CountDownLatch(1);
+        Writer blockingOutput = new CountingWriter() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        Thread runner = new Thread(() -> {
+            try {
+                new InventoryStreamProcessor(capacity).process(input, blockingOutput);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        runner.start();
+        long charsRead = awaitStalled(input.charsRead);
+
+        // Two full queues plus one item in flight per stage, plus the reader's and writer's character buffers
+        long bound = (2L * capacity + 4) * GeneratedInput.LINE.length() + 2 * 8192;
+        assertTrue(charsRead <= bound, "read " + charsRead + " chars, bound " + bound);
+
+        release.countDown();
+        runner.join(TimeUnit.SECONDS.toMillis(30));
+        assertFalse(runner.isAlive());
+    }
+
+    /**
+     * Waits until the counter has started and then kept the same value for several consecutive polls,
+     * that is until the pipeline has filled up and stopped pulling input.
+     *
+     * @return The value the counter settled at
+     */
+    private static long awaitStalled(AtomicLong counter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        long last = -1;
+        int unchangedPolls = 0;
+        while (unchangedPolls < 10) {
+            assertTrue(System.nanoTime() < deadline, "input never stopped being read");
+            Thread.sleep(10);
+            long current = counter.get();
+            unchangedPolls = current > 0 && current == last ? unchangedPolls + 1 : 0;
+            last = current;
+        }
+        return last;
+    }
+
+    /**
+     * Produces the same record over and over without holding the whole input in memory.
+     */
+    private static class GeneratedInput extends Reader {
+
+        static final String LINE = "Elixir of the Mongoose, 5, 7\n";
+
+        final AtomicLong charsRead = new AtomicLong();
+        private final long totalChars;
+
+        GeneratedInput(long lines) {
+            this.totalChars = lines * LINE.length();
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            long position = charsRead.get();
+            if (position >= totalChars) {
+                return -1;
+            }
+            int count = (int) Math.min(length, totalChars - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = LINE.charAt((int) ((position + i) % LINE.length()));
+            }
+            charsRead.addAndGet(count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class CountingWriter extends Writer {
+
+        long lines;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
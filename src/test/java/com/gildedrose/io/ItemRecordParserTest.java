@@ -0,0 +1,93 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemRecordParserTest {
+
+    @Test
+    @DisplayName("Records parse like ItemTextFormat, including names containing separators")
+    void parsesLikeItemTextFormat() {
+        String text = ItemTextFormat.HEADER + "\n"
+                + "+5 Dexterity Vest, 10, 20\n"
+                + "\n"
+                + "Sulfuras, Hand of Ragnaros, -1, 80\r\n"
+                + "Conjured Mana Cake, 0, -3\n";
+        ItemBatch batch = new ItemBatch(10);
+
+        int parsed = new ItemRecordParser().parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), batch);
+
+        assertEquals(3, parsed);
+        assertEquals("+5 Dexterity Vest, 10, 20", batch.item(0).toString());
+        assertEquals("Sulfuras, Hand of Ragnaros, -1, 80", batch.item(1).toString());
+        assertEquals("Conjured Mana Cake, 0, -3", batch.item(2).toString());
+    }
+
+    @Test
+    @DisplayName("Repeated names resolve to one String and batch items are reused")
+    void reusesNamesAndItems() {
+        byte[] text = "Aged Brie, 2, 0\nAged Brie, 5, 10\n".getBytes(StandardCharsets.UTF_8);
+        ItemRecordParser parser = new ItemRecordParser();
+        ItemBatch batch = new ItemBatch(1);
+        ByteBuffer in = ByteBuffer.wrap(text);
+
+        parser.parse(in, batch);
+        Item first = batch.item(0);
+        String firstName = first.name;
+        batch.clear();
+        parser.parse(in, batch);
+
+        assertSame(first, batch.item(0));
+        assertSame(firstName, batch.item(0).name);
+        assertEquals(5, batch.item(0).sellIn);
+        assertEquals(1, parser.distinctNames());
+    }
+
+    @Test
+    @DisplayName("Ingesting a channel reads every record across buffer boundaries")
+    void ingestsChannel() throws IOException {
+        Item[] items = InventoryGenerator.generate(20_000, 29);
+        StringBuilder text = new StringBuilder(ItemTextFormat.HEADER).append('\n');
+        for (Item item : items) {
+            text.append(ItemTextFormat.format(item)).append('\n');
+        }
+        text.setLength(text.length() - 1); // No line break after the last record
+        ReadableByteChannel channel = Channels.newChannel(
+                new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)));
+        List<String> parsed = new ArrayList<>();
+
+        long records = new ItemRecordParser().ingest(channel, batch -> {
+            for (int i = 0; i < batch.size(); i++) {
+                parsed.add(batch.item(i).toString());
+            }
+        });
+
+        assertEquals(items.length, records);
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(items[i].toString(), parsed.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Malformed records are rejected")
+    void rejectsMalformedRecords() {
+        ItemRecordParser parser = new ItemRecordParser();
+        for (String line : new String[] { "No numbers\n", "Vest, 10\n", "Vest, x, 20\n", "Vest, 10, 99999999999\n" }) {
+            ByteBuffer in = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            assertThrows(IllegalArgumentException.class, () -> parser.parse(in, new ItemBatch(4)), line);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.gildedrose.io;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedInventoryTest {
+
+    private static final String FIXTURE = String.join(System.lineSeparator(),
+        "+5 Dexterity Vest, 10, 20",
+        "Aged Brie, 2, 0",
+        "Elixir of the Mongoose, 5, 7",
+        "Sulfuras, Hand of Ragnaros, 0, 80",
+        "Sulfuras, Hand of Ragnaros, -1, 80",
+        "Backstage passes to a TAFKAL80ETC concert, 15, 20",
+        "Backstage passes to a TAFKAL80ETC concert, 10, 49",
+        "Backstage passes to a TAFKAL80ETC concert, 5, 49",
+        "Conjured Mana Cake, 3, 6") + System.lineSeparator();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Text converted to binary and back is unchanged")
+    void textRoundTrip() throws IOException {
+        Path file = directory.resolve("inventory.bin");
+
+        assertEquals(9, BinaryInventoryConverter.textToBinary(new StringReader(FIXTURE), file));
+        StringWriter text = new StringWriter();
+        assertEquals(9, BinaryInventoryConverter.binaryToText(file, text));
+
+        assertEquals(FIXTURE, text.toString());
+    }
+
+    @Test
+    @DisplayName("Each record takes 12 bytes and each distinct name is stored once")
+    void recordsAreFixedWidth() throws IOException {
+        Path file = directory.resolve("inventory.bin");
+        Item[] items = new Item[1_000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item("Aged Brie", i, 0);
+        }
+
+        BinaryInventoryWriter.write(file, items);
+
+        assertEquals(32 + 1_000 * 12 + 2 + "Aged Brie".length(), Files.size(file));
+    }
+
+    @Test
+    @DisplayName("In-place updates match the strategies and persist across reopening")
+    void updatesInPlace() throws IOException {
+        Path file = directory.resolve("inventory.bin");
+        BinaryInventoryConverter.textToBinary(new StringReader(FIXTURE), file);
+        Item[] expected = parse(FIXTURE);
+
+        try (MappedInventory inventory = MappedInventory.open(file)) {
+            for (int day = 0; day < 20; day++) {
+                inventory.updateQuality();
+                for (Item item : expected) {
+                    ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+                }
+            }
+            inventory.force();
+        }
+
+        try (MappedInventory inventory = MappedInventory.open(file)) {
+            assertEquals(expected.length, inventory.size());
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i].name, inventory.name(i));
+                assertEquals(expected[i].sellIn, inventory.sellIn(i));
+                assertEquals(expected[i].quality, inventory.quality(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Files that are not binary inventories are rejected")
+    void rejectsForeignFiles() throws IOException {
+        Path file = directory.resolve("inventory.txt");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IOException.class, () -> MappedInventory.open(file));
+    }
+
+    private static Item[] parse(String text) {
+        return text.lines().map(ItemTextFormat::parse).toArray(Item[]::new);
+    }
+}
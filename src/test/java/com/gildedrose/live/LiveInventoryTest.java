@@ -0,0 +1,180 @@
+package com.gildedrose.live;
+
+import com.gildedrose.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveInventoryTest {
+
+    @Test
+    @DisplayName("Daily ticks apply the same rules as the strategies")
+    void tickAppliesRules() {
+        LiveInventory inventory = LiveInventory.of(new Item[] {
+            new Item("Aged Brie", 0, 20),
+            new Item("Sulfuras, Hand of Ragnaros", 0, 80),
+            new Item("Backstage passes to a TAFKAL80ETC concert", 5, 20),
+            new Item("Conjured Mana Cake", 3, 6)
+        });
+
+        inventory.updateQuality();
+
+        assertEquals("Aged Brie, -1, 22", inventory.get(0).toString());
+        assertEquals("Sulfuras, Hand of Ragnaros, 0, 80", inventory.get(1).toString());
+        assertEquals("Backstage passes to a TAFKAL80ETC concert, 4, 23", inventory.get(2).toString());
+        assertEquals("Conjured Mana Cake, 2, 4", inventory.get(3).toString());
+    }
+
+    @Test
+    @DisplayName("Negative values survive packing into a single long")
+    void packingKeepsSigns() {
+        long state = LiveInventory.pack(-7, -3);
+
+        assertEquals(-7, LiveInventory.sellIn(state));
+        assertEquals(-3, LiveInventory.quality(state));
+    }
+
+    @Test
+    @DisplayName("Removed items are gone")
+    void removeItem() {
+        LiveInventory inventory = new LiveInventory();
+        long id = inventory.add("Aged Brie", 1, 1);
+
+        assertTrue(inventory.remove(id));
+        assertFalse(inventory.remove(id));
+        assertNull(inventory.get(id));
+        assertEquals(0, inventory.size());
+    }
+
+    @Test
+    @DisplayName("Quality adjustments are clamped to 0..50 and leave Sulfuras alone")
+    void adjustmentsAreClamped() {
+        LiveInventory inventory = LiveInventory.of(new Item[] {
+            new Item("+5 Dexterity Vest", 10, 20),
+            new Item("Sulfuras, Hand of Ragnaros", 0, 80)
+        });
+
+        assertTrue(inventory.adjustQuality(0, Integer.MAX_VALUE));
+        assertEquals(50, inventory.get(0).quality);
+        assertTrue(inventory.adjustQuality(0, Integer.MIN_VALUE));
+        assertEquals(0, inventory.get(0).quality);
+        assertTrue(inventory.adjustQuality(1, -5));
+        assertEquals(80, inventory.get(1).quality);
+        assertFalse(inventory.adjustQuality(2, 1));
+    }
+
+    @Test
+    @DisplayName("Concurrent ticks, writes, inserts and removals keep snapshots consistent")
+    void stressTest() throws Exception {
+        int baseItems = 5_000;
+        int days = 40;
+        LiveInventory inventory = new LiveInventory();
+        for (int i = 0; i < baseItems; i++) {
+            inventory.add("Elixir " + i, 1_000, 45);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong ticks = new AtomicLong();
+        AtomicLong adjustments = new AtomicLong();
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+        ExecutorService threads = Executors.newFixedThreadPool(6);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // Ticker
+        Future<?> ticker = threads.submit(() -> {
+            await(start);
+            while (adjustments.get() == 0) {
+                Thread.yield(); // Make sure the writers are running before the first tick
+            }
+            for (int day = 0; day < days; day++) {
+                inventory.updateQuality();
+                ticks.incrementAndGet();
+            }
+            return null;
+        });
+        // Writers raising and lowering the quality of a base item in pairs; qualities stay
+        // between 4 and 46, clear of the clamps, so every pair cancels out
+        for (int t = 0; t < 2; t++) {
+            long seed = t;
+            workers.add(threads.submit(() -> {
+                await(start);
+                Random random = new Random(seed);
+                while (running.get()) {
+                    long id = random.nextInt(baseItems);
+                    assertTrue(inventory.adjustQuality(id, 1));
+                    assertTrue(inventory.adjustQuality(id, -1));
+                    adjustments.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        // Churn: insert and remove items that are not part of the base set
+        workers.add(threads.submit(() -> {
+            await(start);
+            while (running.get()) {
+                long id = inventory.add("Conjured Churn", 10, 10);
+                assertTrue(inventory.remove(id));
+            }
+            return null;
+        }));
+        // Lock-free readers and snapshot readers checking that every base item is at the same day
+        workers.add(threads.submit(() -> {
+            await(start);
+            Random random = new Random(99);
+            while (running.get()) {
+                Item item = inventory.get(random.nextInt(baseItems));
+                if (item == null || item.sellIn > 1_000) {
+                    violations.add("bad point read: " + item);
+                }
+            }
+            return null;
+        }));
+        workers.add(threads.submit(() -> {
+            await(start);
+            while (running.get()) {
+                List<Item> snapshot = inventory.snapshot();
+                long distinctDays = snapshot.stream().filter(item -> item.name.startsWith("Elixir"))
+                        .mapToInt(item -> item.sellIn).distinct().count();
+                if (distinctDays != 1) {
+                    violations.add("snapshot spans " + distinctDays + " days");
+                }
+            }
+            return null;
+        }));
+
+        start.countDown();
+        ticker.get(60, TimeUnit.SECONDS);
+        running.set(false);
+        for (Future<?> worker : workers) {
+            worker.get(60, TimeUnit.SECONDS);
+        }
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(60, TimeUnit.SECONDS));
+
+        assertTrue(violations.isEmpty(), violations.toString());
+        assertEquals(days, ticks.get());
+        assertEquals(baseItems, inventory.size());
+
+        // Every tick is reflected exactly once and every adjustment pair cancels out
+        long totalQuality = inventory.snapshot().stream().mapToLong(item -> item.quality).sum();
+        assertEquals(baseItems * (45L - days), totalQuality);
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        latch.await();
+    }
+}
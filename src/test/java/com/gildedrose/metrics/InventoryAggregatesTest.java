@@ -0,0 +1,73 @@
+package com.gildedrose.metrics;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import com.gildedrose.ItemStrategyFactory;
+import com.gildedrose.benchmark.InventoryGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryAggregatesTest {
+
+    @Test
+    @DisplayName("Totals are computed from the initial inventory")
+    void initialTotals() {
+        Item[] items = {
+            new Item("Aged Brie", 2, 50),
+            new Item("Aged Brie", -1, 10),
+            new Item("+5 Dexterity Vest", 10, 20),
+            new Item("Sulfuras, Hand of Ragnaros", -1, 80)
+        };
+
+        InventoryAggregates aggregates = new InventoryAggregates(items, false);
+
+        assertEquals(2, aggregates.itemCount(ItemCategory.AGED_BRIE));
+        assertEquals(60, aggregates.totalQuality(ItemCategory.AGED_BRIE));
+        assertEquals(160, aggregates.totalQuality());
+        assertEquals(1, aggregates.maxQualityCount());
+        assertEquals(2, aggregates.expiredCount());
+        assertEquals(1, aggregates.expiredCount(ItemCategory.SULFURAS));
+    }
+
+    @Test
+    @DisplayName("Incremental totals agree with a full recomputation after every pass")
+    void verifyingModeAgreesWithScans() {
+        Item[] items = InventoryGenerator.generate(10_000, 31);
+        InventoryAggregates aggregates = new InventoryAggregates(items, true);
+
+        for (int day = 0; day < 60; day++) {
+            runPass(items, aggregates);
+        }
+
+        assertEquals(10_000, aggregates.itemCount(ItemCategory.NORMAL) + aggregates.itemCount(ItemCategory.AGED_BRIE)
+                + aggregates.itemCount(ItemCategory.SULFURAS) + aggregates.itemCount(ItemCategory.BACKSTAGE_PASS)
+                + aggregates.itemCount(ItemCategory.CONJURED));
+    }
+
+    @Test
+    @DisplayName("Changes made outside the update pass are caught by verification")
+    void verificationDetectsDrift() {
+        Item[] items = { new Item("+5 Dexterity Vest", 10, 20) };
+        InventoryAggregates aggregates = new InventoryAggregates(items, true);
+
+        items[0].quality = 7;
+
+        IllegalStateException drift = assertThrows(IllegalStateException.class, () -> runPass(items, aggregates));
+        assertTrue(drift.getMessage().contains("total quality"));
+    }
+
+    // Mirrors the instrumented pass of GildedRose.updateQuality()
+    private static void runPass(Item[] items, InventoryAggregates aggregates) {
+        aggregates.passStarted(items.length);
+        for (int i = 0; i < items.length; i++) {
+            Item item = items[i];
+            int previousSellIn = item.sellIn;
+            int previousQuality = item.quality;
+            ItemStrategyFactory.getStrategy(item.name).updateItem(item);
+            aggregates.itemUpdated(i, item, ItemCategory.of(item.name), previousSellIn, previousQuality, 0);
+        }
+        aggregates.passFinished(0);
+    }
+}
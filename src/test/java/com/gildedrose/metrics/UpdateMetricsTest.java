@@ -0,0 +1,91 @@
+package com.gildedrose.metrics;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdateMetricsTest {
+
+    @Test
+    @DisplayName("Items are counted per category")
+    void countsItemsPerCategory() {
+        UpdateMetrics metrics = new UpdateMetrics();
+
+        metrics.itemUpdated(0, new Item("Aged Brie", 4, 11), ItemCategory.AGED_BRIE, 5, 10, 40);
+        metrics.itemUpdated(1, new Item("Aged Brie", 2, 21), ItemCategory.AGED_BRIE, 3, 20, 40);
+        metrics.itemUpdated(2, new Item("Normal Item", 2, 9), ItemCategory.NORMAL, 3, 10, 40);
+        metrics.passFinished(1_000);
+
+        assertEquals(2, metrics.getItemCount(ItemCategory.AGED_BRIE));
+        assertEquals(1, metrics.getItemCount(ItemCategory.NORMAL));
+        assertEquals(3, metrics.getItemsUpdated());
+        assertEquals(1, metrics.getPassCount());
+        assertEquals(1_000, metrics.getLastPassNanos());
+    }
+
+    @Test
+    @DisplayName("Clamped items and sell-by crossings are counted")
+    void countsClampsAndSellByCrossings() {
+        UpdateMetrics metrics = new UpdateMetrics();
+
+        metrics.itemUpdated(0, new Item("Normal Item", -1, 0), ItemCategory.NORMAL, 0, 1, 10);
+        metrics.itemUpdated(1, new Item("Aged Brie", -2, 50), ItemCategory.AGED_BRIE, -1, 49, 10);
+        metrics.itemUpdated(2, new Item("Backstage passes to a TAFKAL80ETC concert", -1, 0), ItemCategory.BACKSTAGE_PASS, 0, 45, 10);
+
+        assertEquals(1, metrics.getClampedAtMinimum());
+        assertEquals(1, metrics.getClampedAtMaximum());
+        assertEquals(2, metrics.getCrossedSellByDate());
+    }
+
+    @Test
+    @DisplayName("Items staying at or landing exactly on a bound are not counted as clamped")
+    void boundsWithoutClampingAreNotCounted() {
+        UpdateMetrics metrics = new UpdateMetrics();
+
+        metrics.itemUpdated(0, new Item("Aged Brie", 3, 50), ItemCategory.AGED_BRIE, 4, 50, 10);
+        metrics.itemUpdated(1, new Item("Aged Brie", 3, 50), ItemCategory.AGED_BRIE, 4, 49, 10);
+        metrics.itemUpdated(2, new Item("Normal Item", 2, 0), ItemCategory.NORMAL, 3, 0, 10);
+        metrics.itemUpdated(3, new Item("Conjured Mana Cake", 2, 0), ItemCategory.CONJURED, 3, 2, 10);
+        metrics.itemUpdated(4, new Item("Backstage passes to a TAFKAL80ETC concert", 4, 50), ItemCategory.BACKSTAGE_PASS, 5, 47, 10);
+
+        assertEquals(0, metrics.getClampedAtMinimum());
+        assertEquals(0, metrics.getClampedAtMaximum());
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles stay within the bucket resolution")
+    void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertEquals(5_000, histogram.valueAtPercentile(50), 5_000 / 16.0);
+        assertEquals(9_900, histogram.valueAtPercentile(99), 9_900 / 16.0);
+        assertTrue(histogram.max() >= 10_000);
+    }
+
+    @Test
+    @DisplayName("Metrics are readable through JMX")
+    void exposedThroughJmx() throws Exception {
+        UpdateMetrics metrics = new UpdateMetrics();
+        metrics.passFinished(123);
+
+        ObjectName name = metrics.registerMBean("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(1L, server.getAttribute(name, "PassCount"));
+            assertEquals(123L, server.getAttribute(name, "LastPassNanos"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.gildedrose.rules;
+
+import com.gildedrose.Item;
+import com.gildedrose.ItemStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleBookTest {
+
+    private static final String[] NAMES = {
+        "+5 Dexterity Vest", "Aged Brie", "Sulfuras, Hand of Ragnaros",
+        "Backstage passes to a TAFKAL80ETC concert", "Conjured Mana Cake"
+    };
+
+    private final RuleBook defaults = RuleBook.loadDefault();
+
+    @Test
+    @DisplayName("Default rules match the hand-written strategies for every sellIn and quality")
+    void defaultRulesMatchStrategies() {
+        for (String name : NAMES) {
+            for (int sellIn = -15; sellIn <= 20; sellIn++) {
+                for (int quality = -5; quality <= 85; quality++) {
+                    Item expected = new Item(name, sellIn, quality);
+                    Item actual = new Item(name, sellIn, quality);
+
+                    ItemStrategyFactory.getStrategy(name).updateItem(expected);
+                    defaults.getStrategy(name).updateItem(actual);
+
+                    String context = name + " sellIn=" + sellIn + " quality=" + quality;
+                    assertEquals(expected.sellIn, actual.sellIn, context);
+                    assertEquals(expected.quality, actual.quality, context);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Default rules stay equivalent over many days")
+    void defaultRulesMatchOverManyDays() {
+        for (String name : NAMES) {
+            Item expected = new Item(name, 15, 20);
+            Item actual = new Item(name, 15, 20);
+            for (int day = 0; day < 30; day++) {
+                ItemStrategyFactory.getStrategy(name).updateItem(expected);
+                defaults.updateQuality(new Item[] { actual });
+                assertEquals(expected.toString(), actual.toString(), name + " day " + day);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A new item type only needs a rule")
+    void newItemTypeFromRule() throws IOException {
+        RuleBook book = RuleBook.load(new StringReader(
+                "rules = wine, normal\n"
+                + "wine.prefix = Fine Wine\n"
+                + "wine.delta = 1\n"
+                + "wine.tiers = 3:-1\n"
+                + "wine.maxQuality = 80\n"
+                + "normal.prefix =\n"
+                + "normal.delta = -1\n"));
+        Item wine = new Item("Fine Wine 1961", 5, 79);
+
+        book.getStrategy(wine.name).updateItem(wine);
+        assertEquals(80, wine.quality);
+        book.getStrategy(wine.name).updateItem(wine);
+        assertEquals(80, wine.quality);
+        book.getStrategy(wine.name).updateItem(wine);
+
+        assertEquals(2, wine.sellIn);
+        assertEquals(79, wine.quality);
+    }
+
+    @Test
+    @DisplayName("Malformed rules are rejected with the rule id")
+    void malformedRulesAreRejected() {
+        IllegalArgumentException missingMatch = assertThrows(IllegalArgumentException.class,
+                () -> RuleBook.load(new StringReader("rules = broken\nbroken.delta = 1\n")));
+        assertTrue(missingMatch.getMessage().contains("broken"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RuleBook.load(new StringReader("rules = bad\nbad.prefix =\nbad.delta = lots\n")));
+        assertThrows(IllegalArgumentException.class,
+                () -> RuleBook.load(new StringReader("rules = only\nonly.name = Apple\n")).getStrategy("Pear"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.gildedrose.strategy;
+
+import com.gildedrose.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests checking the closed-form advance of every strategy against repeated single-day updates.
+ */
+class ItemUpdateStrategyAdvanceTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    @DisplayName("Normal item advance matches repeated updates")
+    void normalItemAdvanceMatchesRepeatedUpdates() {
+        assertAdvanceMatchesRepeatedUpdates(new NormalItemStrategy(), 1);
+    }
+
+    @Test
+    @DisplayName("Aged Brie advance matches repeated updates")
+    void agedBrieAdvanceMatchesRepeatedUpdates() {
+        assertAdvanceMatchesRepeatedUpdates(new AgedBrieStrategy(), 2);
+    }
+
+    @Test
+    @DisplayName("Backstage pass advance matches repeated updates")
+    void backstagePassAdvanceMatchesRepeatedUpdates() {
+        assertAdvanceMatchesRepeatedUpdates(new BackstagePassStrategy(), 3);
+    }
+
+    @Test
+    @DisplayName("Conjured item advance matches repeated updates")
+    void conjuredItemAdvanceMatchesRepeatedUpdates() {
+        assertAdvanceMatchesRepeatedUpdates(new ConjuredItemStrategy(), 4);
+    }
+
+    @Test
+    @DisplayName("Sulfuras advance matches repeated updates")
+    void sulfurasAdvanceMatchesRepeatedUpdates() {
+        assertAdvanceMatchesRepeatedUpdates(new SulfurasStrategy(), 5);
+    }
+
+    @Test
+    @DisplayName("Backstage passes hit each threshold and drop to zero after the concert")
+    void backstagePassCrossesEveryThreshold() {
+        Item item = new Item("Backstage passes to a TAFKAL80ETC concert", 12, 10);
+        BackstagePassStrategy strategy = new BackstagePassStrategy();
+
+        strategy.advance(item, 12);
+        assertEquals(0, item.sellIn);
+        assertEquals(10 + 2 * 1 + 5 * 2 + 5 * 3, item.quality);
+
+        strategy.advance(item, 1);
+        assertEquals(-1, item.sellIn);
+        assertEquals(0, item.quality);
+    }
+
+    @Test
+    @DisplayName("Advancing zero days leaves the item unchanged")
+    void advancingZeroDaysIsNoOp() {
+        Item item = new Item("Normal Item", 5, 10);
+
+        new NormalItemStrategy().advance(item, 0);
+
+        assertEquals(5, item.sellIn);
+        assertEquals(10, item.quality);
+    }
+
+    @Test
+    @DisplayName("Advancing a negative number of days is rejected")
+    void negativeDaysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AgedBrieStrategy().advance(new Item("Aged Brie", 1, 1), -1));
+    }
+
+    private void assertAdvanceMatchesRepeatedUpdates(ItemUpdateStrategy strategy, long seed) {
+        Random random = new Random(seed);
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            int sellIn = random.nextInt(60) - 20;
+            int quality = random.nextInt(70) - 10;
+            int days = random.nextInt(400);
+
+            Item stepped = new Item("item", sellIn, quality);
+            for (int day = 0; day < days; day++) {
+                strategy.updateItem(stepped);
+            }
+            Item advanced = new Item("item", sellIn, quality);
+            strategy.advance(advanced, days);
+
+            String context = "sellIn=" + sellIn + ", quality=" + quality + ", days=" + days;
+            assertEquals(stepped.sellIn, advanced.sellIn, context);
+            assertEquals(stepped.quality, advanced.quality, context);
+        }
+    }
+}
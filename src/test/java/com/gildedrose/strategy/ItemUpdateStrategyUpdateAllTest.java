@@ -0,0 +1,88 @@
+package com.gildedrose.strategy;
+
+import com.gildedrose.Item;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests checking the specialised batch loop of every strategy against single-item updates.
+ */
+class ItemUpdateStrategyUpdateAllTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    @DisplayName("Normal item batch update matches single-item updates")
+    void normalItemUpdateAllMatchesUpdateItem() {
+        assertUpdateAllMatchesUpdateItem(new NormalItemStrategy(), 1);
+    }
+
+    @Test
+    @DisplayName("Aged Brie batch update matches single-item updates")
+    void agedBrieUpdateAllMatchesUpdateItem() {
+        assertUpdateAllMatchesUpdateItem(new AgedBrieStrategy(), 2);
+    }
+
+    @Test
+    @DisplayName("Backstage pass batch update matches single-item updates")
+    void backstagePassUpdateAllMatchesUpdateItem() {
+        assertUpdateAllMatchesUpdateItem(new BackstagePassStrategy(), 3);
+    }
+
+    @Test
+    @DisplayName("Conjured item batch update matches single-item updates")
+    void conjuredItemUpdateAllMatchesUpdateItem() {
+        assertUpdateAllMatchesUpdateItem(new ConjuredItemStrategy(), 4);
+    }
+
+    @Test
+    @DisplayName("Sulfuras batch update matches single-item updates")
+    void sulfurasUpdateAllMatchesUpdateItem() {
+        assertUpdateAllMatchesUpdateItem(new SulfurasStrategy(), 5);
+    }
+
+    @Test
+    @DisplayName("Only the given range is updated")
+    void updatesOnlyTheGivenRange() {
+        Item[] items = {
+            new Item("item", 5, 10),
+            new Item("item", 5, 10),
+            new Item("item", 5, 10)
+        };
+
+        new NormalItemStrategy().updateAll(items, 1, 2);
+
+        assertEquals(10, items[0].quality);
+        assertEquals(9, items[1].quality);
+        assertEquals(4, items[1].sellIn);
+        assertEquals(10, items[2].quality);
+    }
+
+    private void assertUpdateAllMatchesUpdateItem(ItemUpdateStrategy strategy, long seed) {
+        Random random = new Random(seed);
+        Item[] expected = new Item[SAMPLES];
+        Item[] actual = new Item[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            int sellIn = random.nextInt(60) - 20;
+            int quality = random.nextInt(70) - 10;
+            expected[i] = new Item("item", sellIn, quality);
+            actual[i] = new Item("item", sellIn, quality);
+        }
+
+        for (int day = 0; day < 30; day++) {
+            for (Item item : expected) {
+                strategy.updateItem(item);
+            }
+            strategy.updateAll(actual, 0, actual.length);
+        }
+
+        for (int i = 0; i < SAMPLES; i++) {
+            assertEquals(expected[i].sellIn, actual[i].sellIn, "item " + i);
+            assertEquals(expected[i].quality, actual[i].quality, "item " + i);
+        }
+    }
+}
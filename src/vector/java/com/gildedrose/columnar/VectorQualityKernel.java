@@ -0,0 +1,94 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernel expressing the daily rules as masked adds and min/max clamps over int lanes.
+ * Each branch of the scalar rules becomes a lane mask; the tail that does not fill a whole
+ * vector is handed to the scalar kernel, so results are identical to ScalarQualityKernel.
+ */
+public class VectorQualityKernel implements QualityKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private static final int MAX_QUALITY = ItemCategory.MAX_QUALITY;
+    private static final int DOUBLE_INCREASE_THRESHOLD = ItemCategory.DOUBLE_INCREASE_THRESHOLD;
+    private static final int TRIPLE_INCREASE_THRESHOLD = ItemCategory.TRIPLE_INCREASE_THRESHOLD;
+
+    private final ScalarQualityKernel tail = new ScalarQualityKernel();
+
+    @Override
+    public void update(ItemCategory category, int[] sellIn, int[] quality, int from, int to) {
+        int vectorEnd = from + SPECIES.loopBound(to - from);
+        switch (category) {
+            case NORMAL:
+                degrade(sellIn, quality, from, vectorEnd, 1);
+                break;
+            case CONJURED:
+                degrade(sellIn, quality, from, vectorEnd, 2);
+                break;
+            case AGED_BRIE:
+                improve(sellIn, quality, from, vectorEnd);
+                break;
+            case BACKSTAGE_PASS:
+                backstagePass(sellIn, quality, from, vectorEnd);
+                break;
+            case SULFURAS:
+            default:
+                return;
+        }
+        tail.update(category, sellIn, quality, vectorEnd, to);
+    }
+
+    // Lower quality by the rate while above 0, twice once the sell date has passed, never below 0
+    private static void degrade(int[] sellIn, int[] quality, int from, int to, int rate) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            IntVector s = IntVector.fromArray(SPECIES, sellIn, i);
+            IntVector q = IntVector.fromArray(SPECIES, quality, i);
+
+            q = q.blend(q.sub(rate).max(0), q.compare(VectorOperators.GT, 0));
+            VectorMask<Integer> expired = s.compare(VectorOperators.LE, 0).and(q.compare(VectorOperators.GT, 0));
+            q = q.blend(q.sub(rate).max(0), expired);
+
+            q.intoArray(quality, i);
+            s.sub(1).intoArray(sellIn, i);
+        }
+    }
+
+    // Raise quality by 1 while below 50, by 2 once the sell date has passed
+    private static void improve(int[] sellIn, int[] quality, int from, int to) {
+        for (int i = from; i < to; i += SPECIES.length()) {
+            IntVector s = IntVector.fromArray(SPECIES, sellIn, i);
+            IntVector q = IntVector.fromArray(SPECIES, quality, i);
+
+            q = q.add(1, q.compare(VectorOperators.LT, MAX_QUALITY));
+            VectorMask<Integer> expired = s.compare(VectorOperators.LE, 0).and(q.compare(VectorOperators.LT, MAX_QUALITY));
+            q = q.add(1, expired);
+
+            q.intoArray(quality, i);
+            s.sub(1).intoArray(sellIn, i);
+        }
+    }
+
+    // Raise quality by 1, 2 or 3 depending on days left, capped at 50; 0 once the concert has passed
+    private static void backstagePass(int[] sellIn, int[] quality, int from, int to) {
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        for (int i = from; i < to; i += SPECIES.length()) {
+            IntVector s = IntVector.fromArray(SPECIES, sellIn, i);
+            IntVector q = IntVector.fromArray(SPECIES, quality, i);
+
+            IntVector increase = one
+                    .add(1, s.compare(VectorOperators.LE, DOUBLE_INCREASE_THRESHOLD))
+                    .add(1, s.compare(VectorOperators.LE, TRIPLE_INCREASE_THRESHOLD));
+            q = q.blend(q.add(increase).min(MAX_QUALITY), q.compare(VectorOperators.LT, MAX_QUALITY));
+            q = q.blend(0, s.compare(VectorOperators.LE, 0));
+
+            q.intoArray(quality, i);
+            s.sub(1).intoArray(sellIn, i);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.gildedrose.columnar;
+
+import com.gildedrose.ItemCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorQualityKernelTest {
+
+    private final QualityKernel vector = new VectorQualityKernel();
+    private final QualityKernel scalar = new ScalarQualityKernel();
+
+    @Test
+    @DisplayName("The vector kernel is picked when available")
+    void vectorKernelIsAvailable() {
+        assertTrue(QualityKernels.best() instanceof VectorQualityKernel);
+    }
+
+    @Test
+    @DisplayName("Vector and scalar kernels agree for every category, including the scalar tail")
+    void matchesScalarKernel() {
+        Random random = new Random(5);
+        for (ItemCategory category : ItemCategory.values()) {
+            for (int length : new int[] {0, 1, 7, 64, 1_003}) {
+                int[] sellIn = new int[length];
+                int[] quality = new int[length];
+                for (int i = 0; i < length; i++) {
+                    sellIn[i] = random.nextInt(40) - 10;
+                    quality[i] = random.nextInt(70) - 10;
+                }
+                int[] expectedSellIn = sellIn.clone();
+                int[] expectedQuality = quality.clone();
+
+                for (int day = 0; day < 30; day++) {
+                    scalar.update(category, expectedSellIn, expectedQuality, 0, length);
+                    vector.update(category, sellIn, quality, 0, length);
+                }
+
+                assertArrayEquals(expectedSellIn, sellIn, category + " sellIn, length " + length);
+                assertArrayEquals(expectedQuality, quality, category + " quality, length " + length);
+            }
+        }
+    }
+}